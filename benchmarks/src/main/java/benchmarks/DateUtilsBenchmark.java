@@ -0,0 +1,52 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.DateUtils;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtils helpers used when setting and verifying the date inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateUtilsBenchmark {
+    String startText = "12/05/2026";
+    String invalidText = "2026-05-12";
+    LocalDate start = LocalDate.of(2026, 5, 12);
+    LocalDate end = LocalDate.of(2026, 6, 13);
+
+    @Benchmark
+    public LocalDate parseUi() {
+        return DateUtils.parseUi(startText);
+    }
+
+    /** Text in the wrong format goes through DateTimeParseException. */
+    @Benchmark
+    public LocalDate parseUi_invalid() {
+        return DateUtils.parseUi(invalidText);
+    }
+
+    @Benchmark
+    public String formatUi() {
+        return DateUtils.formatUi(start);
+    }
+
+    @Benchmark
+    public long inclusiveDays() {
+        return DateUtils.inclusiveDays(start, end);
+    }
+}
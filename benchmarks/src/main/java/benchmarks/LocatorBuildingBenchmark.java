@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import pagesObject.DestinationPage;
+import pagesObject.components.CalendarNavigator;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call work in clickCalendarDayIso() before its script lookups, and the locator clickRegionByPartialText() builds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocatorBuildingBenchmark {
+    String isoDate = "2026-05-12";
+    /** Two-month picker two months short of the target, as CalendarNavigator.displayedMonths() reads it. */
+    List<YearMonth> displayed = List.of(YearMonth.of(2026, 2), YearMonth.of(2026, 3));
+    String region = "אירופה";
+
+    /** Date parsing, the day's hook key and the month delta, as CalendarNavigator.showDay() computes them. */
+    @Benchmark
+    public void calendarDay(Blackhole bh) {
+        LocalDate day = LocalDate.parse(isoDate);
+        bh.consume(day.toString());
+        bh.consume(CalendarNavigator.monthDelta(displayed, YearMonth.from(day)));
+    }
+
+    @Benchmark
+    public By regionTile() {
+        return By.xpath(DestinationPage.regionTileXpath(region));
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.TripDaysParser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Text side of getTripDaysFromUI(): extracting the days count from the texts one poll of
+ * waitForTripDaysOnNext() reads (button, container innerText/textContent, "ימים" summary nodes).
+ * The regex variants reproduce the extraction the page objects used before {@link TripDaysParser}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TripDaysTextBenchmark {
+    /** Next button once the dates are set (RTL page, bidi marks around the number). */
+    String buttonWithDays = "הלאה\n\u200Fסה\"כ: \u200E33\u200E ימים";
+    /** Next button before the count is rendered: every poll falls through to the container texts. */
+    String buttonWithoutDays = "הלאה";
+    /** Date container innerText while the count is not rendered yet (no number in it, the dates are in inputs). */
+    String containerInnerText = "תאריך יציאה\nתאריך חזרה\nהלאה";
+    /** Same container's textContent: hidden labels included, still no number. */
+    String containerTextContent = "תאריך יציאהבחירת תאריךתאריך חזרהבחירת תאריךהלאה";
+    /** "ימים" summary nodes, the last place the poll looks and the one that finally has the count. */
+    String[] summaryNodes = {"ימים", "סה\"כ: 33 ימים", "\u200F33 ימים\u200F"};
+
+    @Benchmark
+    public int parser_buttonHit() {
+        return TripDaysParser.parse(buttonWithDays);
+    }
+
+    @Benchmark
+    public int regex_buttonHit() {
+        return regexFirstNumber(buttonWithDays);
+    }
+
+    /** Worst case of one poll, in TripDaysProbe order: button, container innerText and textContent, summaries. */
+    @Benchmark
+    public int parser_fullFallbackPoll() {
+        int v = TripDaysParser.parse(buttonWithoutDays);
+        if (v >= 0) return v;
+        v = TripDaysParser.parse(containerInnerText);
+        if (v >= 0) return v;
+        v = TripDaysParser.parse(containerTextContent);
+        if (v >= 0) return v;
+        int best = -1;
+        for (String node : summaryNodes) {
+            best = Math.max(best, TripDaysParser.parse(node));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int regex_fullFallbackPoll() {
+        int v = regexFirstNumber(buttonWithoutDays);
+        if (v >= 0) return v;
+        v = regexFirstNumber(containerInnerText);
+        if (v >= 0) return v;
+        v = regexFirstNumber(containerTextContent);
+        if (v >= 0) return v;
+        int best = -1;
+        for (String node : summaryNodes) {
+            best = Math.max(best, regexFirstNumber(node));
+        }
+        return best;
+    }
+
+    /** Previous per-read extraction: a fresh Pattern and Matcher every call. */
+    private static int regexFirstNumber(String text) {
+        if (text == null) return -1;
+        Matcher m = Pattern.compile("(\\d+)").matcher(text);
+        if (m.find()) {
+            try { return Integer.parseInt(m.group(1)); } catch (NumberFormatException ignored) {}
+        }
+        return -1;
+    }
+}
@@ -2,14 +2,12 @@ package ActionDriver;
 
 import Base.BaseClass;
 import Interface.ActionInterface;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Reporter;
 
-import java.io.File;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.Date;
@@ -17,240 +15,245 @@ import java.util.Date;
 /**
  * Action driver class implementing reusable Selenium actions
  * Provides common operations for element interaction and verification
+ * Each action is recorded in the {@link EventLog} with its duration and outcome
  */
 public class Action extends BaseClass implements ActionInterface {
 
     @Override
     public void click(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             Actions actions = new Actions(driver);
             actions.moveToElement(element).click().build().perform();
-            System.out.println("Clicked on element");
+            EventLog.ok("click", element, start, null);
         } catch (Exception e) {
-            System.err.println("Failed to click element: " + e.getMessage());
+            EventLog.failed("click", element, start, e);
             throw e;
         }
     }
 
     @Override
     public boolean JSClick(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             JavascriptExecutor executor = (JavascriptExecutor) driver;
             executor.executeScript("arguments[0].click();", element);
-            System.out.println("JavaScript click performed");
+            EventLog.ok("jsClick", element, start, null);
             return true;
         } catch (Exception e) {
-            System.err.println("JavaScript click failed: " + e.getMessage());
+            EventLog.failed("jsClick", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean type(WebElement element, String text) {
+        long start = System.nanoTime();
         try {
             if (!element.isDisplayed()) {
-                System.err.println("Element not displayed");
+                EventLog.append(EventLog.Level.WARN, "type", element, start, false, "element not displayed");
                 return false;
             }
             element.clear();
             element.sendKeys(text);
-            System.out.println("Typed text: " + text);
+            EventLog.ok("type", element, start, text);
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to type text: " + e.getMessage());
+            EventLog.failed("type", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean findElement(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             element.isDisplayed();
-            System.out.println("Element found");
+            EventLog.ok("findElement", element, start, null);
             return true;
         } catch (Exception e) {
-            System.err.println("Element not found: " + e.getMessage());
+            EventLog.failed("findElement", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean isDisplayed(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             boolean displayed = element.isDisplayed();
-            if (displayed) {
-                System.out.println("Element is displayed");
-            } else {
-                System.out.println("Element is not displayed");
-            }
+            EventLog.ok("isDisplayed", element, start, String.valueOf(displayed));
             return displayed;
         } catch (Exception e) {
-            System.err.println("Element visibility check failed: " + e.getMessage());
+            EventLog.failed("isDisplayed", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean isSelected(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             boolean selected = element.isSelected();
-            if (selected) {
-                System.out.println("Element is selected");
-            } else {
-                System.out.println("Element is not selected");
-            }
+            EventLog.ok("isSelected", element, start, String.valueOf(selected));
             return selected;
         } catch (Exception e) {
-            System.err.println("Element selection check failed: " + e.getMessage());
+            EventLog.failed("isSelected", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean isEnabled(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             boolean enabled = element.isEnabled();
-            if (enabled) {
-                System.out.println("Element is enabled");
-            } else {
-                System.out.println("Element is not enabled");
-            }
+            EventLog.ok("isEnabled", element, start, String.valueOf(enabled));
             return enabled;
         } catch (Exception e) {
-            System.err.println("Element enabled check failed: " + e.getMessage());
+            EventLog.failed("isEnabled", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean selectByIndex(WebElement element, int index) {
+        long start = System.nanoTime();
         try {
             Select select = new Select(element);
             select.selectByIndex(index);
-            System.out.println("Selected option by index: " + index);
+            EventLog.ok("selectByIndex", element, start, String.valueOf(index));
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to select by index: " + e.getMessage());
+            EventLog.failed("selectByIndex", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean selectByValue(WebElement element, String value) {
+        long start = System.nanoTime();
         try {
             Select select = new Select(element);
             select.selectByValue(value);
-            System.out.println("Selected option by value: " + value);
+            EventLog.ok("selectByValue", element, start, value);
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to select by value: " + e.getMessage());
+            EventLog.failed("selectByValue", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean selectByVisibleText(String visibleText, WebElement element) {
+        long start = System.nanoTime();
         try {
             Select select = new Select(element);
             select.selectByVisibleText(visibleText);
-            System.out.println("Selected option by visible text: " + visibleText);
+            EventLog.ok("selectByVisibleText", element, start, visibleText);
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to select by visible text: " + e.getMessage());
+            EventLog.failed("selectByVisibleText", element, start, e);
             return false;
         }
     }
 
     @Override
     public boolean selectBySendKeys(String value, WebElement element) {
+        long start = System.nanoTime();
         try {
             element.sendKeys(value);
-            System.out.println("Selected option by sendKeys: " + value);
+            EventLog.ok("selectBySendKeys", element, start, value);
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to select by sendKeys: " + e.getMessage());
+            EventLog.failed("selectBySendKeys", element, start, e);
             return false;
         }
     }
 
     @Override
     public void scrollByVisibilityOfElement(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].scrollIntoView(true);", element);
-            System.out.println("Scrolled to element");
+            EventLog.ok("scrollIntoView", element, start, null);
         } catch (Exception e) {
-            System.err.println("Failed to scroll to element: " + e.getMessage());
+            EventLog.failed("scrollIntoView", element, start, e);
         }
     }
 
     @Override
     public void implicitWait(WebDriver driver, int timeOut) {
+        long start = System.nanoTime();
         try {
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(timeOut));
-            System.out.println("Implicit wait set to: " + timeOut + " seconds");
+            EventLog.ok("implicitWait", null, start, timeOut + " s");
         } catch (Exception e) {
-            System.err.println("Failed to set implicit wait: " + e.getMessage());
+            EventLog.failed("implicitWait", null, start, e);
         }
     }
 
     @Override
     public void explicitWait(WebDriver driver, WebElement element, int timeOut) {
+        long start = System.nanoTime();
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeOut));
-            wait.until(ExpectedConditions.visibilityOf(element));
-            System.out.println("Explicit wait completed for element");
+            WaitEngine.of(driver).forSeconds(timeOut).until(ExpectedConditions.visibilityOf(element));
+            EventLog.ok("explicitWait", element, start, timeOut + " s");
         } catch (Exception e) {
-            System.err.println("Explicit wait failed: " + e.getMessage());
+            EventLog.failed("explicitWait", element, start, e);
         }
     }
 
     @Override
     public void pageLoadTimeOut(WebDriver driver, int timeOut) {
+        long start = System.nanoTime();
         try {
             driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(timeOut));
-            System.out.println("Page load timeout set to: " + timeOut + " seconds");
+            EventLog.ok("pageLoadTimeout", null, start, timeOut + " s");
         } catch (Exception e) {
-            System.err.println("Failed to set page load timeout: " + e.getMessage());
+            EventLog.failed("pageLoadTimeout", null, start, e);
         }
     }
 
+    /**
+     * Captures now and writes in the background (see {@link ScreenshotService}); returns the file it is to be saved
+     * as. The event log records the file actually written once the write is done.
+     */
     @Override
     public String screenShot(WebDriver driver, String fileName) {
+        long start = System.nanoTime();
         try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-            String path = System.getProperty("user.dir") + "/screenshots/" + fileName + ".png";
-            File destFile = new File(path);
-            FileUtils.copyFile(srcFile, destFile);
-            System.out.println("Screenshot saved: " + path);
-            return path;
+            ScreenshotService.captureAndLog(driver, fileName, Reporter.getCurrentTestResult());
+            return ScreenshotService.fileFor(fileName).toString();
         } catch (Exception e) {
-            System.err.println("Failed to take screenshot: " + e.getMessage());
+            EventLog.failed("screenshot", fileName, start, e);
             return null;
         }
     }
 
     @Override
     public String getCurrentURL(WebDriver driver) {
+        long start = System.nanoTime();
         try {
             String url = driver.getCurrentUrl();
-            System.out.println("Current URL: " + url);
+            EventLog.ok("getCurrentUrl", null, start, url);
             return url;
         } catch (Exception e) {
-            System.err.println("Failed to get current URL: " + e.getMessage());
+            EventLog.failed("getCurrentUrl", null, start, e);
             return null;
         }
     }
 
     @Override
     public String getTitle(WebDriver driver) {
+        long start = System.nanoTime();
         try {
             String title = driver.getTitle();
-            System.out.println("Page title: " + title);
+            EventLog.ok("getTitle", null, start, title);
             return title;
         } catch (Exception e) {
-            System.err.println("Failed to get page title: " + e.getMessage());
+            EventLog.failed("getTitle", null, start, e);
             return null;
         }
     }
@@ -0,0 +1,21 @@
+package ActionDriver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most WebDriver commands a test may issue, counted by {@link CommandProfiler}. With methods set, only commands
+ * issued from those page-object methods count, e.g.
+ * {@code @CommandBudget(max = 40, methods = {"clickEurope", "clickNextAndWaitForDate"})}.
+ * A test that passes but goes over its budget is failed by {@link CommandBudgetListener}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CommandBudget {
+    int max();
+
+    /** Page-object methods counted, by name ("clickEurope") or class and name ("DestinationPage.clickEurope"). */
+    String[] methods() default {};
+}
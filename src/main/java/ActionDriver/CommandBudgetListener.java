@@ -0,0 +1,37 @@
+package ActionDriver;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+
+/**
+ * Enforces {@link CommandBudget}: counting starts afresh when a test method starts, and a test that passed is
+ * failed if it issued more commands than its budget allows. Registered for every test through BaseClass, which hands
+ * a budgeted test a counting driver even without commands.profile=true.
+ */
+public class CommandBudgetListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            CommandProfiler.reset(testResult);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !testResult.isSuccess()) return;
+        Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        CommandBudget budget = javaMethod == null ? null : javaMethod.getAnnotation(CommandBudget.class);
+        if (budget == null) return;
+        long used = CommandProfiler.commands(testResult, budget.methods());
+        if (used > budget.max()) {
+            String scope = budget.methods().length == 0 ? "the test" : String.join(" + ", budget.methods());
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Command budget exceeded: " + used + " WebDriver commands in "
+                    + scope + ", budget " + budget.max() + " (" + CommandProfiler.breakdown(testResult) + ")"));
+        }
+    }
+}
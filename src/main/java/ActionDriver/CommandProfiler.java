@@ -0,0 +1,262 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import utils.LatencyStats;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and times every WebDriver command (one driver round trip each) made through a decorated driver, per test
+ * and per page-object method. Calls the client answers locally (the manage()/timeouts()/switchTo() accessors,
+ * element ids) are not counted; what is called on them (implicitlyWait, window(handle), ...) is.
+ * Custom locators such as fallback chains and hook lookups are resolved against the decorated driver, so the
+ * commands they issue count individually. Tests limit their commands with {@link CommandBudget}; the report is
+ * written to target/perf/commands.txt. Counts belong to the test invocation (ITestResult), so data-provider rows and
+ * invocationCount repeats running in parallel are counted apart. commands.profile=true counts every test and
+ * writes the report; otherwise only tests with a budget get a counting driver, for the length of the test.
+ */
+public final class CommandProfiler extends WebDriverDecorator<WebDriver> {
+    /** Page-object name used for commands issued from tests, BaseClass or helpers. */
+    static final String OUTSIDE_PAGE_OBJECTS = "(test)";
+
+    /** No-argument accessors that only return a client-side view (switchTo().window(handle) takes one and counts). */
+    private static final Set<String> ACCESSORS = Set.of("manage", "timeouts", "window", "navigate", "switchTo",
+            "logs", "getCoordinates");
+    private static final Set<String> LOCAL_METHODS = Set.of("toString", "hashCode", "equals", "getWrappedDriver",
+            "getWrappedElement", "getId", "toJson", "getSessionId", "getCapabilities", "getCommandExecutor",
+            "getErrorHandler", "getFileDetector", "setFileDetector", "setLogLevel", "getDevTools", "maybeGetDevTools");
+
+    /** Attribute of the ITestResult holding its counts. */
+    private static final String COUNTS = CommandProfiler.class.getName();
+    /** Every invocation's counts in start order, for the report. */
+    private static final Queue<TestCommands> TESTS = new ConcurrentLinkedQueue<>();
+    /** Commands issued outside a test method (pool warm-up, suite set-up). */
+    private static final TestCommands NO_TEST = new TestCommands(EventLog.testId(null));
+    private static final AtomicBoolean NO_TEST_LISTED = new AtomicBoolean();
+    private static final Map<String, LatencyStats> BY_COMMAND = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private volatile WebDriver session;
+
+    private CommandProfiler() {}
+
+    /** True when commands.profile=true. */
+    public static boolean enabled() {
+        return "true".equalsIgnoreCase(BaseClass.getSetting("commands.profile", "false"));
+    }
+
+    /** The counting driver to hand to page objects; attach anything that needs the raw driver (e.g. DevTools) to driver. */
+    public static WebDriver wrap(WebDriver driver) {
+        CommandProfiler profiler = new CommandProfiler();
+        WebDriver decorated = profiler.decorate(driver);
+        profiler.session = decorated;
+        return decorated;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        WebDriver decorated = session;
+        if (decorated != null && resolvesLocally(target, method, args)) {
+            By locator = (By) args[0];
+            return "findElement".equals(method.getName()) ? locator.findElement(decorated) : locator.findElements(decorated);
+        }
+        return super.call(target, method, args);
+    }
+
+    @Override
+    public void beforeCall(Decorated<?> target, Method method, Object[] args) {
+        if (isCommand(target, method, args)) {
+            STARTED.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCall(Decorated<?> target, Method method, Object[] args, Object result) {
+        if (isCommand(target, method, args)) {
+            finish(method);
+        }
+    }
+
+    @Override
+    public Object onError(Decorated<?> target, Method method, Object[] args, InvocationTargetException e) throws Throwable {
+        if (isCommand(target, method, args)) {
+            finish(method);
+        }
+        return super.onError(target, method, args, e);
+    }
+
+    private static boolean isCommand(Decorated<?> target, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class || LOCAL_METHODS.contains(method.getName())) return false;
+        if (ACCESSORS.contains(method.getName()) && (args == null || args.length == 0)) return false;
+        return !resolvesLocally(target, method, args);
+    }
+
+    /** findElement(s) on the driver with a locator the driver cannot send as-is (e.g. LocatorChain, hook). */
+    private static boolean resolvesLocally(Decorated<?> target, Method method, Object[] args) {
+        return target.getOriginal() instanceof WebDriver
+                && method.getName().startsWith("findElement")
+                && args != null && args.length == 1
+                && args[0] instanceof By && !(args[0] instanceof By.Remotable);
+    }
+
+    private static void finish(Method method) {
+        Long start = STARTED.get().poll();
+        if (start == null) return;
+        long nanos = System.nanoTime() - start;
+        BY_COMMAND.computeIfAbsent(method.getName(), k -> new LatencyStats()).record(nanos / 1_000_000L);
+        countsOf(Reporter.getCurrentTestResult(), true).record(pageObjectMethod(), nanos);
+    }
+
+    /**
+     * Outermost page-object method on the stack, e.g. "DestinationPage.clickEurope" for a command issued by its
+     * private click helper, so budgets can name the methods a test calls.
+     */
+    private static String pageObjectMethod() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("pagesObject."))
+                .reduce((inner, outer) -> outer)
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse(OUTSIDE_PAGE_OBJECTS));
+    }
+
+    /** Counts of the test invocation, created on first use; NO_TEST outside test methods. */
+    private static TestCommands countsOf(ITestResult result, boolean create) {
+        if (result == null || result.getMethod() == null) {
+            if (create && NO_TEST_LISTED.compareAndSet(false, true)) TESTS.add(NO_TEST);
+            return NO_TEST;
+        }
+        Object counts = result.getAttribute(COUNTS);
+        if (counts != null || !create) return (TestCommands) counts;
+        synchronized (result) {
+            counts = result.getAttribute(COUNTS);
+            if (counts == null) {
+                String label = EventLog.testId(result) + (result.getParameters().length == 0 ? ""
+                        : " " + Arrays.toString(result.getParameters()));
+                TestCommands created = new TestCommands(label);
+                result.setAttribute(COUNTS, created);
+                TESTS.add(created);
+                counts = created;
+            }
+            return (TestCommands) counts;
+        }
+    }
+
+    /** Starts the count for a test invocation afresh. */
+    static void reset(ITestResult result) {
+        TestCommands counts = countsOf(result, false);
+        if (counts != null && counts != NO_TEST) {
+            result.removeAttribute(COUNTS);
+            TESTS.remove(counts);
+        }
+    }
+
+    /** Commands the test issued from the named page-object methods ("clickEurope" or "DestinationPage.clickEurope"); all of them when none are named. */
+    public static long commands(ITestResult result, String... methods) {
+        TestCommands test = countsOf(result, false);
+        return test == null ? 0 : test.count(methods);
+    }
+
+    /** Per-method counts of the test, largest first, e.g. "DestinationPage.clickNextAndWaitForDate 17, ...". */
+    public static String breakdown(ITestResult result) {
+        TestCommands test = countsOf(result, false);
+        return test == null ? "no commands" : test.breakdown();
+    }
+
+    /** Commands per test with the page-object methods that issued them, then latency per command type. */
+    public static String report() {
+        if (TESTS.isEmpty()) return "";
+        List<TestCommands> tests = new ArrayList<>(TESTS);
+        tests.sort((a, b) -> Long.compare(b.count(), a.count()));
+        StringBuilder sb = new StringBuilder("WebDriver commands per test\n");
+        for (TestCommands t : tests) {
+            sb.append(String.format("  %5d commands  %7d ms  %s%n", t.count(), t.nanos() / 1_000_000L, t.label));
+            for (Map.Entry<String, Tally> m : t.sorted()) {
+                sb.append(String.format("      %5d  %7d ms  %s%n", m.getValue().count.sum(),
+                        m.getValue().nanos.sum() / 1_000_000L, m.getKey()));
+            }
+        }
+        List<Map.Entry<String, LatencyStats>> commands = new ArrayList<>(BY_COMMAND.entrySet());
+        commands.sort((a, b) -> Long.compare(b.getValue().total(), a.getValue().total()));
+        sb.append("\nCommands by type, by total time\n");
+        for (Map.Entry<String, LatencyStats> e : commands) {
+            sb.append(String.format("  total %7d ms  %s  %s%n", e.getValue().total(), e.getValue().summary(), e.getKey()));
+        }
+        return sb.toString();
+    }
+
+    private static final class Tally {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    private static final class TestCommands {
+        final String label;
+        final Map<String, Tally> byMethod = new ConcurrentHashMap<>();
+
+        TestCommands(String label) {
+            this.label = label;
+        }
+
+        void record(String method, long nanos) {
+            Tally tally = byMethod.computeIfAbsent(method, k -> new Tally());
+            tally.count.increment();
+            tally.nanos.add(nanos);
+        }
+
+        long count(String... methods) {
+            long total = 0;
+            for (Map.Entry<String, Tally> e : byMethod.entrySet()) {
+                if (matches(e.getKey(), methods)) total += e.getValue().count.sum();
+            }
+            return total;
+        }
+
+        long nanos() {
+            long total = 0;
+            for (Tally t : byMethod.values()) total += t.nanos.sum();
+            return total;
+        }
+
+        List<Map.Entry<String, Tally>> sorted() {
+            List<Map.Entry<String, Tally>> entries = new ArrayList<>(byMethod.entrySet());
+            entries.sort((a, b) -> Long.compare(b.getValue().count.sum(), a.getValue().count.sum()));
+            return entries;
+        }
+
+        String breakdown() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Tally> e : sorted()) {
+                if (sb.length() > 0) sb.append(", ");
+                sb.append(e.getKey()).append(' ').append(e.getValue().count.sum());
+            }
+            return sb.toString();
+        }
+
+        private static boolean matches(String pageObjectMethod, String... methods) {
+            if (methods == null || methods.length == 0) return true;
+            for (String m : methods) {
+                if (pageObjectMethod.equals(m) || pageObjectMethod.endsWith("." + m)) return true;
+            }
+            return false;
+        }
+    }
+}
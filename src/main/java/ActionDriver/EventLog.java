@@ -0,0 +1,307 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event channel for actions and page objects. Test threads only append a fixed-shape {@link Event}
+ * (test, action, target, duration, outcome) to a lock-free ring buffer; one background thread formats the events
+ * and writes them to target/test-logs/&lt;test&gt;.log and, from log.console.level up, to the console.
+ * When the buffer is full the event is dropped and counted rather than blocking the test.
+ * The buffer is sized (log.buffer) by the first event and the console level is read by the writer as it goes, so
+ * both follow the configuration loaded by the suite; set them as JVM properties to cover events logged earlier.
+ * Events logged after {@link #shutdown()} start the writer again.
+ */
+public final class EventLog {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    /** Test id used for events logged outside a test method (configuration, suite hooks). */
+    static final String NO_TEST = "suite";
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+
+    private static final AtomicLong DROPPED = new AtomicLong();
+    /** Log files already opened by this JVM; a writer started again appends to them instead of truncating. */
+    private static final Set<String> OPENED = ConcurrentHashMap.newKeySet();
+    private static volatile Thread writer;
+    private static volatile boolean closing;
+    private static boolean hookAdded;
+
+    private EventLog() {}
+
+    /** Successful action that started at startNanos (System.nanoTime()). */
+    public static void ok(String action, Object target, long startNanos, String detail) {
+        append(Level.INFO, action, target, startNanos, true, detail);
+    }
+
+    /** Failed action; the failure message becomes the detail. */
+    public static void failed(String action, Object target, long startNanos, Throwable error) {
+        append(Level.WARN, action, target, startNanos, false, error == null ? null : error.getMessage());
+    }
+
+    /** Free-form note from a page object or helper, e.g. values read from the page. */
+    public static void note(String source, String message) {
+        append(Level.INFO, source, null, -1, true, message);
+    }
+
+    /** Problem the run continues past, e.g. a file that could not be read or written. */
+    public static void warn(String source, String message) {
+        append(Level.WARN, source, null, -1, false, message);
+    }
+
+    public static void append(Level level, String action, Object target, long startNanos, boolean ok, String detail) {
+        append(Reporter.getCurrentTestResult(), level, action, target, startNanos, ok, detail);
+    }
+
+    /** Event for the given test, from a thread other than the test's (e.g. a background writer). */
+    static void append(ITestResult test, Level level, String action, Object target, long startNanos, boolean ok,
+                       String detail) {
+        long durationMicros = startNanos < 0 ? -1 : (System.nanoTime() - startNanos) / 1_000L;
+        Event event = new Event(System.currentTimeMillis(), testId(test), level, action, target, durationMicros, ok, detail);
+        if (!Buffer.RING.offer(event)) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+        Thread w = writer;
+        if (w == null) {
+            w = startWriter();
+        }
+        if (level.compareTo(Level.WARN) >= 0) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    /** Writes everything still buffered and closes the log files. */
+    public static void shutdown() {
+        Thread w = writer;
+        if (w == null) return;
+        closing = true;
+        LockSupport.unpark(w);
+        try {
+            w.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (EventLog.class) {
+            if (writer == w && !w.isAlive()) {
+                writer = null;
+                closing = false;
+            }
+        }
+    }
+
+    /** Where the per-test logs are written. */
+    public static Path dir() {
+        return Paths.get(System.getProperty("user.dir"), "target", "test-logs");
+    }
+
+    private static synchronized Thread startWriter() {
+        if (writer == null) {
+            Thread t = new Thread(new Writer(), "event-log-writer");
+            t.setDaemon(true);
+            t.start();
+            if (!hookAdded) {
+                Runtime.getRuntime().addShutdownHook(new Thread(EventLog::shutdown, "event-log-shutdown"));
+                hookAdded = true;
+            }
+            writer = t;
+        }
+        return writer;
+    }
+
+    static String testId(ITestResult result) {
+        if (result == null || result.getMethod() == null) return NO_TEST;
+        return result.getMethod().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    /** Holds the ring so that log.buffer is read on the first event, not when the class is loaded. */
+    private static final class Buffer {
+        static final Ring RING = new Ring(capacity());
+    }
+
+    private static int capacity() {
+        int requested = Integer.parseInt(BaseClass.getSetting("log.buffer", "8192"));
+        // Power of two so the slot index is a mask
+        return Integer.highestOneBit(Math.max(64, requested) - 1) << 1;
+    }
+
+    private static Level consoleLevel() {
+        try {
+            return Level.valueOf(BaseClass.getSetting("log.console.level", "info").trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /** One log record; formatting (including the target's toString) happens on the writer thread. */
+    static final class Event {
+        final long epochMillis;
+        final String testId;
+        final Level level;
+        final String action;
+        final Object target;
+        final long durationMicros;
+        final boolean ok;
+        final String detail;
+
+        Event(long epochMillis, String testId, Level level, String action, Object target, long durationMicros,
+              boolean ok, String detail) {
+            this.epochMillis = epochMillis;
+            this.testId = testId;
+            this.level = level;
+            this.action = action;
+            this.target = target;
+            this.durationMicros = durationMicros;
+            this.ok = ok;
+            this.detail = detail;
+        }
+
+        String format() {
+            StringBuilder sb = new StringBuilder(128);
+            sb.append(TIME.format(Instant.ofEpochMilli(epochMillis)))
+                    .append(' ').append(String.format("%-5s", level))
+                    .append(" [").append(testId).append("] ")
+                    .append(action);
+            if (target != null) {
+                String text;
+                try {
+                    text = String.valueOf(target);
+                } catch (RuntimeException e) {
+                    text = target.getClass().getSimpleName();
+                }
+                sb.append(" target=").append(text);
+            }
+            if (durationMicros >= 0) {
+                sb.append(' ').append(durationMicros / 1000).append('.').append(durationMicros % 1000 / 100).append(" ms");
+                sb.append(ok ? " OK" : " FAILED");
+            }
+            if (detail != null) sb.append(" - ").append(detail);
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer ring: producers claim a slot with a CAS on the tail and publish
+     * the event into it; the writer takes published slots in order from the head.
+     */
+    static final class Ring {
+        private final AtomicReferenceArray<Event> slots;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong head = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        boolean offer(Event event) {
+            long seq;
+            do {
+                seq = tail.get();
+                if (seq - head.get() >= slots.length()) return false;
+            } while (!tail.compareAndSet(seq, seq + 1));
+            slots.lazySet((int) (seq & mask), event);
+            return true;
+        }
+
+        /** Next published event, or null (also while a claimed slot is still being written). */
+        Event poll() {
+            long seq = head.get();
+            int index = (int) (seq & mask);
+            Event event = slots.get(index);
+            if (event == null) return null;
+            slots.lazySet(index, null);
+            head.lazySet(seq + 1);
+            return event;
+        }
+    }
+
+    private static final class Writer implements Runnable {
+        private final Map<String, BufferedWriter> files = new HashMap<>();
+
+        @Override
+        public void run() {
+            while (true) {
+                boolean stop = closing;
+                int written = drain();
+                flush();
+                if (stop && written == 0) break;
+                if (written == 0) LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            long dropped = DROPPED.getAndSet(0);
+            if (dropped > 0) {
+                System.err.println("✗ Event log buffer full: " + dropped + " event(s) dropped (raise log.buffer)");
+            }
+            files.values().forEach(w -> {
+                try { w.close(); } catch (IOException ignored) {}
+            });
+            files.clear();
+        }
+
+        private int drain() {
+            int count = 0;
+            Level consoleLevel = consoleLevel();
+            Event event;
+            while ((event = Buffer.RING.poll()) != null) {
+                count++;
+                String line = event.format();
+                BufferedWriter file = file(event.testId);
+                if (file != null) {
+                    try {
+                        file.write(line);
+                        file.newLine();
+                    } catch (IOException ignored) {}
+                }
+                if (event.level.compareTo(consoleLevel) >= 0) {
+                    PrintStream console = event.level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+                    console.println(line);
+                }
+            }
+            return count;
+        }
+
+        private void flush() {
+            for (BufferedWriter w : files.values()) {
+                try { w.flush(); } catch (IOException ignored) {}
+            }
+        }
+
+        private BufferedWriter file(String testId) {
+            BufferedWriter w = files.get(testId);
+            if (w != null || files.containsKey(testId)) return w;
+            try {
+                Files.createDirectories(dir());
+                OpenOption mode = OPENED.add(testId) ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+                w = Files.newBufferedWriter(dir().resolve(testId.replaceAll("[^A-Za-z0-9._-]", "_") + ".log"),
+                        StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+            } catch (IOException e) {
+                w = null;
+            }
+            files.put(testId, w);
+            return w;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import utils.LatencyStats;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures every element lookup made through a decorated driver: count, latency and how many elements matched,
+ * per locator, with the page-object methods that used it. Polling waits count each poll, which is what the
+ * lookup really costs. Enabled with locators.profile=true; the report is written to target/perf/locators.txt.
+ * Lookups done inside scripts (e.g. TripDaysProbe) are not WebDriver lookups and do not appear here.
+ */
+public final class LocatorProfiler implements WebDriverListener {
+    private static final LocatorProfiler INSTANCE = new LocatorProfiler();
+    private static final Map<String, LocatorStats> STATS = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private LocatorProfiler() {}
+
+    /** True when locators.profile=true. */
+    public static boolean enabled() {
+        return "true".equalsIgnoreCase(BaseClass.getSetting("locators.profile", "false"));
+    }
+
+    /** The driver to hand to page objects; decorate after anything that needs the raw driver (e.g. DevTools). */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        start();
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        finish(locator, 1);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        start();
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        finish(locator, result == null ? 0 : result.size());
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        start();
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        finish(locator, 1);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        start();
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        finish(locator, result == null ? 0 : result.size());
+    }
+
+    /** A findElement that matched nothing ends here instead of in afterFindElement. */
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getName().startsWith("findElement") && args != null && args.length == 1 && args[0] instanceof By) {
+            finish((By) args[0], 0);
+        }
+    }
+
+    private void start() {
+        started.get().push(System.nanoTime());
+    }
+
+    private void finish(By locator, int matches) {
+        Long start = started.get().poll();
+        if (start == null) return;
+        STATS.computeIfAbsent(String.valueOf(locator), k -> new LocatorStats())
+                .record((System.nanoTime() - start) / 1_000_000L, matches, callSite());
+    }
+
+    /** Locators by total lookup time, with match counts and the page-object methods that used them. */
+    public static String report() {
+        List<Map.Entry<String, LocatorStats>> entries = new ArrayList<>(STATS.entrySet());
+        if (entries.isEmpty()) return "";
+        entries.sort((a, b) -> Long.compare(b.getValue().latency.total(), a.getValue().latency.total()));
+        StringBuilder sb = new StringBuilder("Locator lookups, by total time\n");
+        for (Map.Entry<String, LocatorStats> e : entries) {
+            LocatorStats s = e.getValue();
+            sb.append(String.format("  total %7d ms  %s  matches min/avg/max %d/%.1f/%d  empty %d  %s%n",
+                    s.latency.total(), s.latency.summary(), s.minMatches(), s.meanMatches(), s.maxMatches.get(),
+                    s.empty.get(), e.getKey()));
+            sb.append("      used by ").append(s.callers()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Page-object method that made the lookup, e.g. "DateSection.getStartValue". */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("pagesObject."))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse("other"));
+    }
+
+    private static final class LocatorStats {
+        final LatencyStats latency = new LatencyStats();
+        final AtomicLong matches = new AtomicLong();
+        final AtomicLong minMatches = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong maxMatches = new AtomicLong();
+        final AtomicLong empty = new AtomicLong();
+        final Set<String> callers = ConcurrentHashMap.newKeySet();
+
+        void record(long millis, int found, String caller) {
+            latency.record(millis);
+            matches.addAndGet(found);
+            minMatches.accumulateAndGet(found, Math::min);
+            maxMatches.accumulateAndGet(found, Math::max);
+            if (found == 0) empty.incrementAndGet();
+            callers.add(caller);
+        }
+
+        long minMatches() {
+            long min = minMatches.get();
+            return min == Long.MAX_VALUE ? 0 : min;
+        }
+
+        double meanMatches() {
+            int count = latency.count();
+            return count == 0 ? 0.0 : (double) matches.get() / count;
+        }
+
+        String callers() {
+            return String.join(", ", new TreeSet<>(callers));
+        }
+    }
+}
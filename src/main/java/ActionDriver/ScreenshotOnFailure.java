@@ -0,0 +1,31 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import Base.BrowserSession;
+import Base.SessionRegistry;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Captures the browser of a failed test through {@link ScreenshotService}. Runs right after the test method,
+ * before tearDown closes or resets the session, and only waits for the capture itself.
+ * Registered for every test through BaseClass; screenshots.onfailure=false turns it off.
+ */
+public class ScreenshotOnFailure implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) return;
+        if ("false".equalsIgnoreCase(BaseClass.getSetting("screenshots.onfailure", "true"))) return;
+        BrowserSession session = SessionRegistry.current();
+        if (session == null) return;
+        long start = System.nanoTime();
+        String name = EventLog.testId(testResult) + "-" + System.currentTimeMillis();
+        try {
+            ScreenshotService.captureAndLog(session.driver(), name, testResult);
+        } catch (RuntimeException e) {
+            EventLog.failed("screenshot", name, start, e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Screenshot capture that costs the test thread only the capture itself: the browser's base64 PNG is handed to a
+ * bounded background executor that decodes it, skips frames identical to one already saved (by SHA-256) and writes
+ * the rest to screenshots/. When the queue is full (screenshots.queue) or screenshots.max.mb is reached, further
+ * captures are dropped and counted instead of stalling the test. Counts go to target/perf/screenshots.txt.
+ */
+public final class ScreenshotService {
+    private static final int QUEUE = Integer.parseInt(BaseClass.getSetting("screenshots.queue", "16"));
+    private static final long MAX_BYTES = Long.parseLong(BaseClass.getSetting("screenshots.max.mb", "200")) * 1024 * 1024;
+
+    private static final Map<String, Path> SAVED = new ConcurrentHashMap<>();
+    private static final AtomicLong CAPTURED = new AtomicLong();
+    private static final AtomicLong WRITTEN = new AtomicLong();
+    private static final AtomicLong DUPLICATES = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicLong OVER_LIMIT = new AtomicLong();
+    private static final AtomicLong BYTES = new AtomicLong();
+    private static final AtomicLong CAPTURE_MICROS = new AtomicLong();
+
+    private static volatile ThreadPoolExecutor writers;
+
+    private ScreenshotService() {}
+
+    /** Where screenshots are written. */
+    public static Path dir() {
+        return Paths.get(System.getProperty("user.dir"), "screenshots");
+    }
+
+    /** File a capture with this name is saved as (unless it duplicates an earlier frame). */
+    public static Path fileFor(String name) {
+        return dir().resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".png");
+    }
+
+    /**
+     * Captures the browser now and saves it in the background as screenshots/&lt;name&gt;.png. The future completes
+     * with the file holding the frame (an earlier identical one for a duplicate), or null when it was dropped,
+     * over the disk limit or could not be written.
+     */
+    public static CompletableFuture<Path> capture(WebDriver driver, String name) {
+        long start = System.nanoTime();
+        String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        CAPTURE_MICROS.addAndGet((System.nanoTime() - start) / 1_000L);
+        CAPTURED.incrementAndGet();
+        Path target = fileFor(name);
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        try {
+            executor().execute(() -> result.complete(save(base64, target)));
+        } catch (RejectedExecutionException e) {
+            DROPPED.incrementAndGet();
+            result.complete(null);
+        }
+        return result;
+    }
+
+    /**
+     * {@link #capture} on behalf of a test: once the frame is saved, the test's event log records the file that
+     * actually holds it, or a warning when it was not written. The time logged runs until the file is on disk.
+     */
+    static CompletableFuture<Path> captureAndLog(WebDriver driver, String name, ITestResult test) {
+        long start = System.nanoTime();
+        return capture(driver, name).thenApply(path -> {
+            if (path != null) {
+                EventLog.append(test, EventLog.Level.INFO, "screenshot", null, start, true, path.toString());
+            } else {
+                EventLog.append(test, EventLog.Level.WARN, "screenshot", name, start, false,
+                        "not written (queue full, over screenshots.max.mb or write failed)");
+            }
+            return path;
+        });
+    }
+
+    private static Path save(String base64, Path target) {
+        byte[] png = Base64.getMimeDecoder().decode(base64);
+        String hash = sha256(png);
+        Path earlier = SAVED.putIfAbsent(hash, target);
+        if (earlier != null) {
+            DUPLICATES.incrementAndGet();
+            return earlier;
+        }
+        if (BYTES.addAndGet(png.length) > MAX_BYTES) {
+            BYTES.addAndGet(-png.length);
+            SAVED.remove(hash, target);
+            OVER_LIMIT.incrementAndGet();
+            return null;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, png);
+            WRITTEN.incrementAndGet();
+            return target;
+        } catch (IOException e) {
+            BYTES.addAndGet(-png.length);
+            SAVED.remove(hash, target);
+            EventLog.warn("ScreenshotService", "Failed to write screenshot " + target + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadPoolExecutor executor() {
+        ThreadPoolExecutor pool = writers;
+        if (pool != null) return pool;
+        synchronized (ScreenshotService.class) {
+            if (writers == null) {
+                AtomicInteger ids = new AtomicInteger();
+                ThreadPoolExecutor created = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, QUEUE)), r -> {
+                            Thread t = new Thread(r, "screenshot-writer-" + ids.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }, new ThreadPoolExecutor.AbortPolicy());
+                created.allowCoreThreadTimeOut(true);
+                writers = created;
+            }
+            return writers;
+        }
+    }
+
+    /** Waits for queued screenshots to be written; later captures start a new executor. */
+    public static void shutdown() {
+        ThreadPoolExecutor pool;
+        synchronized (ScreenshotService.class) {
+            pool = writers;
+            writers = null;
+        }
+        if (pool == null) return;
+        pool.shutdown();
+        try {
+            pool.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Captured, written, duplicate and dropped counts; empty when nothing was captured. */
+    public static String report() {
+        long captured = CAPTURED.get();
+        if (captured == 0) return "";
+        return String.format("Screenshots%n  captured %d (avg %.0f ms on the test thread)  written %d (%d KB)"
+                        + "  duplicates skipped %d  dropped (queue full) %d  over screenshots.max.mb %d%n",
+                captured, CAPTURE_MICROS.get() / 1000.0 / captured, WRITTEN.get(), BYTES.get() / 1024,
+                DUPLICATES.get(), DROPPED.get(), OVER_LIMIT.get());
+    }
+}
@@ -0,0 +1,200 @@
+package ActionDriver;
+
+import Base.BaseClass;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Wait;
+import utils.LatencyStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for waiting in page objects.
+ * Waits poll with a short first interval that backs off (25 ms doubling up to 400 ms) instead of a fixed 500 ms,
+ * and every wait is timed per call site so the report shows where the suite spends its waiting time.
+ * With waits.mode=explicit the browser's implicit wait is 0, so empty findElements calls return at once;
+ * with the default waits.mode=implicit, a wait switches it off once for all of its polls (two commands per wait,
+ * not per lookup), and {@link #findAllNow} and {@link #firstPresent} do the same when called outside a wait.
+ */
+public final class WaitEngine {
+    /** Implicit wait applied to new browsers in waits.mode=implicit. */
+    public static final int IMPLICIT_WAIT_SEC = 10;
+
+    private static final long FIRST_POLL_MS = 25;
+    private static final long MAX_POLL_MS = 400;
+    private static final Map<String, CallStats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> IMPLICIT_OFF = ThreadLocal.withInitial(() -> false);
+
+    private final WebDriver driver;
+
+    private WaitEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static WaitEngine of(WebDriver driver) {
+        return new WaitEngine(driver);
+    }
+
+    /** True unless waits.mode=explicit. */
+    public static boolean implicitWaitsEnabled() {
+        return !"explicit".equalsIgnoreCase(BaseClass.getSetting("waits.mode", "implicit"));
+    }
+
+    /** Wait with the given timeout; call until() on it as on a WebDriverWait. */
+    public BackoffWait forSeconds(int seconds) {
+        return new BackoffWait(driver, Duration.ofSeconds(seconds));
+    }
+
+    /** Elements currently matching the locator, without waiting when there are none. */
+    public List<WebElement> findAllNow(By locator) {
+        return firstPresent(locator);
+    }
+
+    /**
+     * Tries the locators in order and returns the matches of the first one that finds anything
+     * (empty when none does). Misses cost one round trip each, never an implicit wait.
+     */
+    public List<WebElement> firstPresent(By... chain) {
+        long start = System.nanoTime();
+        return withoutImplicitWait(driver, () -> {
+            for (By locator : chain) {
+                List<WebElement> found = driver.findElements(locator);
+                if (found != null && !found.isEmpty()) {
+                    record(callSite() + ": present " + locator, start, true, 1);
+                    return found;
+                }
+            }
+            record(callSite() + ": present " + (chain.length == 1 ? chain[0].toString() : chain.length + " locators"), start, false, 1);
+            return Collections.<WebElement>emptyList();
+        });
+    }
+
+    /**
+     * Runs the lookup with the implicit wait switched off (a no-op in waits.mode=explicit, where it is already 0).
+     * Nested calls on the same thread (a lookup polled by a wait, a LocatorChain passed to findAllNow) do not
+     * toggle it again.
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> lookup) {
+        boolean toggle = implicitWaitsEnabled() && !IMPLICIT_OFF.get();
+        if (toggle) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            IMPLICIT_OFF.set(true);
+        }
+        try {
+            return lookup.get();
+        } finally {
+            if (toggle) {
+                IMPLICIT_OFF.set(false);
+                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT_SEC));
+            }
+        }
+    }
+
+    /** Per call site: number of waits, time spent waiting, timeouts and polls. */
+    public static String report() {
+        List<Map.Entry<String, CallStats>> entries = new ArrayList<>(STATS.entrySet());
+        if (entries.isEmpty()) return "";
+        entries.sort((a, b) -> Long.compare(b.getValue().latency.total(), a.getValue().latency.total()));
+        StringBuilder sb = new StringBuilder();
+        sb.append("Waits (mode=").append(implicitWaitsEnabled() ? "implicit" : "explicit").append("), by total time\n");
+        for (Map.Entry<String, CallStats> e : entries) {
+            CallStats s = e.getValue();
+            sb.append(String.format("  total %7d ms  timeouts %3d  polls %5d  %s  %s%n",
+                    s.latency.total(), s.timeouts.get(), s.polls.get(), s.latency.summary(), e.getKey()));
+        }
+        return sb.toString();
+    }
+
+    private static void record(String key, long startNanos, boolean satisfied, long polls) {
+        CallStats stats = STATS.computeIfAbsent(key, k -> new CallStats());
+        stats.latency.record((System.nanoTime() - startNanos) / 1_000_000L);
+        stats.polls.addAndGet(polls);
+        if (!satisfied) stats.timeouts.incrementAndGet();
+    }
+
+    /** Page-object method that asked for the wait, e.g. "DestinationPage.clickNextAndWaitForDate". */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().startsWith(WaitEngine.class.getName()))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse("?"));
+    }
+
+    private static final class CallStats {
+        final LatencyStats latency = new LatencyStats();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong polls = new AtomicLong();
+    }
+
+    /**
+     * Wait with WebDriverWait's until() contract (NotFoundException ignored, TimeoutException on expiry), backoff
+     * polling and per-call timing. Only until() is offered: the polling, ignored exceptions and message are fixed.
+     */
+    public static final class BackoffWait implements Wait<WebDriver> {
+        private final WebDriver driver;
+        private final Duration timeout;
+
+        BackoffWait(WebDriver driver, Duration timeout) {
+            this.driver = driver;
+            this.timeout = timeout;
+        }
+
+        /** Polls with the implicit wait off throughout, so a miss costs one round trip and the wait does the waiting. */
+        @Override
+        public <V> V until(Function<? super WebDriver, V> condition) {
+            String key = callSite() + ": " + describe(condition);
+            return withoutImplicitWait(driver, () -> poll(key, condition));
+        }
+
+        private <V> V poll(String key, Function<? super WebDriver, V> condition) {
+            long start = System.nanoTime();
+            long deadline = start + timeout.toNanos();
+            long poll = FIRST_POLL_MS;
+            long polls = 0;
+            RuntimeException last = null;
+            while (true) {
+                polls++;
+                try {
+                    V value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        record(key, start, true, polls);
+                        return value;
+                    }
+                } catch (NotFoundException e) {
+                    last = e;
+                }
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000L;
+                if (remainingMs <= 0) {
+                    record(key, start, false, polls);
+                    throw new TimeoutException("Expected condition failed: waiting for " + describe(condition)
+                            + " (tried for " + timeout.getSeconds() + " second(s) with backoff polling)", last);
+                }
+                try {
+                    Thread.sleep(Math.min(poll, remainingMs));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    record(key, start, false, polls);
+                    throw new TimeoutException("Interrupted while waiting for " + describe(condition), e);
+                }
+                poll = Math.min(MAX_POLL_MS, poll * 2);
+            }
+        }
+
+        private static String describe(Object condition) {
+            String text = String.valueOf(condition);
+            return text.contains("$$Lambda") ? "custom condition" : text;
+        }
+    }
+}
@@ -1,31 +1,76 @@
 package Base;
 
 import ActionDriver.Action;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import ActionDriver.CommandBudget;
+import ActionDriver.CommandBudgetListener;
+import ActionDriver.CommandProfiler;
+import ActionDriver.EventLog;
+import ActionDriver.LocatorProfiler;
+import ActionDriver.ScreenshotOnFailure;
+import ActionDriver.ScreenshotService;
+import ActionDriver.WaitEngine;
+import fixtures.WizardFixtureServer;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.ie.InternetExplorerDriver;
+import org.openqa.selenium.remote.http.Filter;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Listeners;
+import pagesObject.DestinationPage;
+import pagesObject.TravelPolicyPage;
+import pagesObject.support.ElementCache;
+import pagesObject.support.LocatorChain;
+import utils.RunReports;
+import utils.StepTimings;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Properties;
 
 /**
  * Base class for all test cases
- * Handles WebDriver initialization and configuration loading
+ * Handles WebDriver initialization and configuration loading.
+ * Sessions are thread-confined (see {@link SessionRegistry}) so the suite can run with parallel="methods".
+ * WebDriver command budgets ({@link CommandBudget}) are enforced for every test that declares one, with or
+ * without commands.profile, and failed tests get a screenshot of their browser.
  */
+@Listeners({CommandBudgetListener.class, ScreenshotOnFailure.class})
 public abstract class BaseClass {
     public static Properties prop;
-    public static WebDriver driver;
-    public static Action action;
+    private static volatile SessionPool standbyPool;
+    private static volatile ResourceBlocker resourceBlocker;
+    private static volatile TrafficArchive trafficArchive;
+    private static volatile WizardFixtureServer fixtureServer;
+    private static final Map<String, WizardSnapshot> wizardSnapshots = new ConcurrentHashMap<>();
+    private static final Set<String> rejectedSnapshots = ConcurrentHashMap.newKeySet();
+
+    /** WebDriver owned by the current test thread. */
+    public static WebDriver getDriver() {
+        return SessionRegistry.driver();
+    }
+
+    /** Action helper owned by the current test thread. */
+    public static Action getAction() {
+        return SessionRegistry.action();
+    }
 
     /**
      * Load configuration from properties file
@@ -47,7 +92,7 @@ public abstract class BaseClass {
                     prop.load(cp);
                     loaded = true;
                 } else {
-                    System.err.println("✗ Config file not found: " + System.getProperty("user.dir") + "\\Configuration\\config.properties");
+                    EventLog.warn("BaseClass", "Config file not found: " + System.getProperty("user.dir") + "\\Configuration\\config.properties");
                 }
             }
             if (!loaded) {
@@ -55,70 +100,447 @@ public abstract class BaseClass {
                 prop.setProperty("browser", "Chrome");
                 prop.setProperty("url", "about:blank");
             }
-            System.out.println("✓ Configuration loaded");
+            EventLog.note("BaseClass", "Configuration loaded");
         } catch (IOException e) {
-            System.err.println("✗ Error loading config: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.warn("BaseClass", "Error loading config: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start the embedded wizard fixture server when site.mode=fixture
+     */
+    @BeforeSuite(dependsOnMethods = "loadConfig")
+    public void startFixtureServer() throws IOException {
+        if ("fixture".equalsIgnoreCase(getSetting("site.mode", "live"))) {
+            fixtureServer = WizardFixtureServer.start(Integer.parseInt(getSetting("fixture.port", "0")));
+        }
+    }
+
+    /**
+     * Landing page of the wizard under test: the fixture server, site.url, or the live site
+     */
+    public static String landingUrl() {
+        WizardFixtureServer fixture = fixtureServer;
+        if (fixture != null) {
+            return fixture.landingUrl();
+        }
+        return getSetting("site.url", TravelPolicyPage.PAGE_URL);
+    }
+
+    /**
+     * Configure the DevTools network filters applied to every browser session
+     */
+    @BeforeSuite(dependsOnMethods = "loadConfig")
+    public void configureNetworkFilters() {
+        ResourceBlocker blocker = ResourceBlocker.fromSettings(getSetting("network.blocking", "off"),
+                getSetting("network.block", ""), getSetting("network.allow", ""));
+        resourceBlocker = blocker.mode() == ResourceBlocker.Mode.OFF ? null : blocker;
+        TrafficArchive archive = TrafficArchive.fromSettings(getSetting("network.archive", "off"),
+                getSetting("network.archive.dir", "network-archive"), getSetting("network.archive.strict", "false"),
+                getSetting("network.archive.ignore.params", "_,cb"));
+        trafficArchive = archive.mode() == TrafficArchive.Mode.OFF ? null : archive;
+    }
+
+    /**
+     * Filters (outermost first) that this class's browsers route their traffic through.
+     * Standby pool browsers always use the suite-wide filters.
+     */
+    protected List<Filter> networkFilters() {
+        return suiteNetworkFilters();
+    }
+
+    private static List<Filter> suiteNetworkFilters() {
+        List<Filter> filters = new ArrayList<>();
+        ResourceBlocker blocker = resourceBlocker;
+        if (blocker != null) {
+            filters.add(blocker);
+        }
+        TrafficArchive archive = trafficArchive;
+        if (archive != null) {
+            filters.add(archive);
+        }
+        return filters;
+    }
+
+    /**
+     * Start the standby session pool when pool.size &gt; 0. Not while the traffic archive is recorded: the pool
+     * prepares browsers in the background, and their traffic would be recorded in between a test's.
+     */
+    @BeforeSuite(dependsOnMethods = {"loadConfig", "startFixtureServer", "configureNetworkFilters"})
+    public void startStandbyPool() {
+        int size = Integer.parseInt(getSetting("pool.size", "0"));
+        TrafficArchive archive = trafficArchive;
+        if (size > 0 && archive != null && archive.mode() == TrafficArchive.Mode.RECORD) {
+            EventLog.note("BaseClass", "Standby pool off while the traffic archive is recorded");
+            return;
+        }
+        if (size > 0) {
+            standbyPool = new SessionPool(size, getSetting("pool.step", SessionPool.STEP_DESTINATION), landingUrl(),
+                    () -> launchSession(suiteNetworkFilters()));
+        }
+    }
+
+    /**
+     * Opens the destination step. A session leased from the standby pool is already there,
+     * so navigation is skipped unless the session has drifted away from the step.
+     */
+    protected DestinationPage openDestinationStep() {
+        BrowserSession session = SessionRegistry.current();
+        if (session != null && session.consumePreparedStep(SessionPool.STEP_DESTINATION)) {
+            DestinationPage page = new DestinationPage(getDriver());
+            if (page.isAt()) {
+                return page;
+            }
+        }
+        TravelPolicyPage landing = new TravelPolicyPage(getDriver(), landingUrl());
+        if (session == null) {
+            landing.open();
+        } else if (!session.consumePreparedStep(SessionPool.STEP_LANDING)) {
+            session.timedNavigation(landing::open);
+        }
+        return landing.clickPurchaseForNewCustomer();
+    }
+
+    /**
+     * Deep-links the current session into a wizard step captured earlier under the given key
+     * (wizard.snapshots=true). Returns false when there is no usable snapshot; callers validate the
+     * page and the restored selections (e.g. {@link WizardSnapshot#storageContains}) and fall back to the full
+     * path (calling {@link #rejectWizardState(String)} if validation fails).
+     */
+    protected boolean restoreWizardState(String key) {
+        if (!"true".equalsIgnoreCase(getSetting("wizard.snapshots", "false")) || rejectedSnapshots.contains(key)) {
+            return false;
+        }
+        WizardSnapshot snapshot = wizardSnapshots.get(key);
+        if (snapshot == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean restored = snapshot.restore(getDriver());
+        EventLog.note("BaseClass", "Wizard state '" + key + "' " + (restored ? "restored" : "not restored") + " in "
+                + (System.nanoTime() - start) / 1_000_000L + " ms: " + snapshot.url());
+        return restored;
+    }
+
+    /**
+     * Captures the current wizard state under the given key, once per run (wizard.snapshots=true)
+     */
+    protected void captureWizardState(String key) {
+        if (!"true".equalsIgnoreCase(getSetting("wizard.snapshots", "false")) || wizardSnapshots.containsKey(key)) {
+            return;
+        }
+        try {
+            wizardSnapshots.putIfAbsent(key, WizardSnapshot.capture(getDriver()));
+        } catch (Exception e) {
+            EventLog.warn("BaseClass", "Wizard state capture failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops restoring the given snapshot for the rest of the run (the restored page did not validate)
+     */
+    protected void rejectWizardState(String key) {
+        rejectedSnapshots.add(key);
+        wizardSnapshots.remove(key);
+        EventLog.note("BaseClass", "Wizard state '" + key + "' did not validate; using the full path");
+    }
+
+    /**
+     * Reads a setting: JVM system property first, then config.properties, then the given default
+     */
+    public static String getSetting(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if ((value == null || value.trim().isEmpty()) && prop != null) {
+            value = prop.getProperty(key);
         }
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
     }
 
     /**
-     * Launch the application in browser
+     * Launch the application in browser.
+     * With pool.size &gt; 0 the session is leased from the standby pool; otherwise, with
+     * session.reuse=class|suite, a healthy browser left on this thread by a previous test is reused.
      */
     @BeforeMethod
-    public void launchApp() {
-        action = new Action();
-        WebDriverManager.chromedriver().setup();
+    public void launchApp(Method method) {
+        claimSession(method);
+        // A budget needs the test's commands counted even when the session is not profiled
+        BrowserSession session = SessionRegistry.current();
+        if (session != null && !CommandProfiler.enabled() && method.isAnnotationPresent(CommandBudget.class)) {
+            session.countCommands(true);
+        }
+    }
+
+    private void claimSession(Method method) {
+        String owner = getClass().getName();
+        SessionPool pool = standbyPool;
+        if (pool != null) {
+            long timeoutMs = Long.parseLong(getSetting("pool.lease.timeout.ms", "30000"));
+            BrowserSession leased = pool.lease(owner + "." + method.getName(), timeoutMs);
+            leased.claim(owner);
+            SessionRegistry.register(leased);
+            if (!leased.isPreparedAt(pool.step())) {
+                openStartUrl(leased);
+            }
+            return;
+        }
+        ReuseScope scope = ReuseScope.from(getSetting("session.reuse", "none"));
+        BrowserSession session = SessionRegistry.current();
+        if (session != null) {
+            boolean inScope = scope == ReuseScope.SUITE
+                    || (scope == ReuseScope.CLASS && owner.equals(session.owner()));
+            if (inScope && session.isHealthy()) {
+                session.claim(owner);
+                openStartUrl(session);
+                EventLog.note("BaseClass", "Reusing browser session (tests served: " + session.testsServed() + ")");
+                return;
+            }
+            SessionRegistry.release();
+            session.quit();
+        }
+        session = launchSession();
+        session.claim(owner);
+        SessionRegistry.register(session);
+        openStartUrl(session);
+    }
+
+    /**
+     * Start a new browser configured from config.properties
+     */
+    protected BrowserSession launchSession() {
+        return launchSession(networkFilters());
+    }
+
+    private BrowserSession launchSession(List<Filter> filters) {
+        Action action = new Action();
+        WebDriver driver = null;
         String browserName = prop != null ? prop.getProperty("browser") : null;
         if (browserName == null) {
             browserName = "Chrome";
         }
+        LaunchProfile profile = LaunchProfile.from(getSetting("launch.profile", "default"));
 
         String bn = browserName.toLowerCase();
         boolean inCi = "true".equalsIgnoreCase(System.getenv("GITHUB_ACTIONS"));
+        long start;
         if (bn.contains("chrome")) {
-            ChromeOptions options = new ChromeOptions();
-            if (inCi) {
-                options.addArguments(
-                        "--headless=new",
-                        "--no-sandbox",
-                        "--disable-dev-shm-usage",
-                        "--disable-gpu",
-                        "--window-size=1920,1080"
-                );
-            }
+            DriverBinaries.ensure("chrome");
+            ChromeOptions options = profile.chromeOptions(inCi);
+            start = System.nanoTime();
             driver = new ChromeDriver(options);
         } else if (bn.contains("firefox") || bn.contains("fire fox") || bn.contains("ff")) {
-            driver = new FirefoxDriver();
+            DriverBinaries.ensure("firefox");
+            start = System.nanoTime();
+            driver = new FirefoxDriver(profile.firefoxOptions());
         } else if (bn.contains("ie") || bn.contains("internet explorer")) {
+            DriverBinaries.ensure("ie");
+            start = System.nanoTime();
             driver = new InternetExplorerDriver();
+        } else {
+            start = System.nanoTime();
         }
 
-        action.implicitWait(driver, 10);
+        action.implicitWait(driver, WaitEngine.implicitWaitsEnabled() ? WaitEngine.IMPLICIT_WAIT_SEC : 0);
         action.pageLoadTimeOut(driver, 30);
         try {
-            if (!inCi) {
+            if (profile.hasFixedViewport()) {
+                driver.manage().window().setSize(new Dimension(profile.width(), profile.height()));
+            } else if (!inCi) {
                 driver.manage().window().maximize();
             } else {
                 driver.manage().window().setSize(new Dimension(1920, 1080));
             }
         } catch (Exception ignored) {}
+        // Network interception attaches to the raw driver below; page objects get the profiled one
+        WebDriver sessionDriver = CommandProfiler.enabled() ? CommandProfiler.wrap(driver) : driver;
+        if (LocatorProfiler.enabled()) {
+            sessionDriver = LocatorProfiler.decorate(sessionDriver);
+        }
+        BrowserSession session = new BrowserSession(sessionDriver, action, profile);
+        try {
+            List<Filter> sessionFilters = new ArrayList<>();
+            for (Filter filter : filters) {
+                if (filter instanceof TrafficArchive) {
+                    TrafficArchive sessionArchive = ((TrafficArchive) filter).reportingTo(session::recordArchiveMiss);
+                    session.setTrafficArchive(sessionArchive);
+                    sessionFilters.add(sessionArchive);
+                } else {
+                    sessionFilters.add(filter);
+                }
+            }
+            session.setNetworkInterceptor(NetworkTap.attach(driver, sessionFilters));
+        } catch (Exception e) {
+            EventLog.warn("BaseClass", "Network interception unavailable: " + e.getMessage());
+        }
+        profile.recordStartup((System.nanoTime() - start) / 1_000_000L);
+        return session;
+    }
+
+    private void openStartUrl(BrowserSession session) {
         String url = prop != null ? prop.getProperty("url") : null;
         if (url == null || url.isEmpty()) {
             url = "about:blank";
         }
-        driver.get(url);
-        System.out.println("✓ Application launched: " + url);
+        String target = url;
+        if ("about:blank".equals(target)) {
+            session.driver().get(target);
+        } else {
+            session.timedNavigation(() -> session.driver().get(target));
+        }
+        EventLog.note("BaseClass", "Application launched: " + url);
     }
 
     /**
-     * Close the browser after test
+     * Close the browser after test, or reset its state when sessions are reused.
+     * A session that cannot be reset is quit and relaunched by the next test.
+     * In strict archive replay, a test whose browser requested anything not in the archive is failed.
      */
     @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            System.out.println("✓ Browser closed successfully");
+    public void tearDown(ITestResult result) {
+        ReuseScope scope = ReuseScope.from(getSetting("session.reuse", "none"));
+        BrowserSession session = SessionRegistry.current();
+        if (session == null) {
+            return;
+        }
+        session.countCommands(false);
+        List<String> misses = session.drainArchiveMisses();
+        session.rewindTrafficArchive();
+        TrafficArchive archive = trafficArchive;
+        if (archive != null && archive.isStrict() && !misses.isEmpty() && result.isSuccess()) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Strict replay: " + misses.size()
+                    + " request(s) not in the traffic archive, first: " + misses.get(0)));
+        }
+        SessionPool pool = standbyPool;
+        if (pool != null) {
+            SessionRegistry.release();
+            pool.recycle(session);
+            return;
+        }
+        if (scope != ReuseScope.NONE && session.reset()) {
+            EventLog.note("BaseClass", "Browser state reset for reuse");
+            return;
+        }
+        SessionRegistry.release();
+        session.quit();
+        EventLog.note("BaseClass", "Browser closed successfully");
+    }
+
+    /**
+     * Quit the browsers kept for this class when reuse is class-scoped
+     */
+    @AfterClass(alwaysRun = true)
+    public void closeClassSessions() {
+        if (ReuseScope.from(getSetting("session.reuse", "none")) == ReuseScope.CLASS) {
+            SessionRegistry.quitOwnedBy(getClass().getName());
+        }
+    }
+
+    /**
+     * Quit any session left open by a worker thread (reused sessions, or a failed configuration method).
+     * Runs after checkStepLatency (even when it fails the suite), which still logs and writes reports through
+     * the EventLog this shuts down.
+     */
+    @AfterSuite(alwaysRun = true, dependsOnMethods = "checkStepLatency")
+    public void closeLeftoverSessions() {
+        SessionPool pool = standbyPool;
+        if (pool != null) {
+            standbyPool = null;
+            pool.shutdown();
+            RunReports.write("session-pool.txt", pool.report());
+        }
+        ResourceBlocker blocker = resourceBlocker;
+        if (blocker != null) {
+            RunReports.write("resource-blocking.txt", blocker.report());
+        }
+        TrafficArchive archive = trafficArchive;
+        if (archive != null) {
+            RunReports.write("network-archive.txt", archive.report());
+        }
+        String waits = WaitEngine.report();
+        if (!waits.isEmpty()) {
+            RunReports.write("waits.txt", waits);
+        }
+        String locators = LocatorProfiler.report();
+        if (!locators.isEmpty()) {
+            RunReports.write("locators.txt", locators);
+        }
+        String commands = CommandProfiler.report();
+        if (!commands.isEmpty()) {
+            RunReports.write("commands.txt", commands);
+        }
+        String cache = ElementCache.report();
+        if (!cache.isEmpty()) {
+            RunReports.write("element-cache.txt", cache);
+        }
+        String chains = LocatorChain.report();
+        if (!chains.isEmpty()) {
+            RunReports.write("locator-chains.txt", chains);
+            LocatorChain.saveStats();
+        }
+        for (LaunchProfile profile : LaunchProfile.values()) {
+            String report = profile.report();
+            if (!report.isEmpty()) {
+                RunReports.write("launch-profile-" + profile.id() + ".txt", report);
+            }
+        }
+        SessionRegistry.quitAll();
+        ScreenshotService.shutdown();
+        String screenshots = ScreenshotService.report();
+        if (!screenshots.isEmpty()) {
+            RunReports.write("screenshots.txt", screenshots);
+        }
+        WizardFixtureServer fixture = fixtureServer;
+        if (fixture != null) {
+            fixtureServer = null;
+            fixture.stop();
+        }
+        EventLog.shutdown();
+    }
+
+    /**
+     * Writes this run's wizard step latency (p50/p95) next to the committed baseline for the site mode.
+     * steps.baseline.update=true writes this run's values to the baseline instead. With steps.regression=warn or
+     * fail, a step slower than steps.regression.threshold percent is reported, or fails the suite; the default is
+     * off until the baseline holds measured values.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void checkStepLatency() {
+        StepTimings timings = StepTimings.run();
+        if (timings.isEmpty()) {
+            return;
+        }
+        Path baselineFile = Paths.get(getSetting("steps.baseline",
+                "src/test/resources/perf/step-baseline-" + getSetting("site.mode", "live").toLowerCase() + ".properties"));
+        Properties baseline = StepTimings.loadBaseline(baselineFile);
+        RunReports.write("steps.txt", timings.report(baseline));
+        if ("true".equalsIgnoreCase(getSetting("steps.baseline.update", "false"))) {
+            try {
+                StepTimings.updateBaseline(baselineFile, timings.toBaseline());
+                EventLog.note("BaseClass", "Step baseline updated: " + baselineFile);
+            } catch (IOException e) {
+                EventLog.warn("BaseClass", "Failed to update step baseline " + baselineFile + ": " + e.getMessage());
+            }
+            return;
+        }
+        String mode = getSetting("steps.regression", "off").toLowerCase();
+        if ("off".equals(mode)) {
+            return;
+        }
+        if (baseline.isEmpty()) {
+            EventLog.warn("BaseClass", "No step latency baseline in " + baselineFile
+                    + "; record one with -Dsteps.baseline.update=true");
+            return;
+        }
+        List<String> regressions = timings.regressions(baseline,
+                Integer.parseInt(getSetting("steps.regression.threshold", "30")));
+        if (regressions.isEmpty()) {
+            return;
+        }
+        String message = "Wizard step latency regressed past the baseline: " + String.join("; ", regressions);
+        if ("fail".equals(mode)) {
+            throw new AssertionError(message);
         }
+        EventLog.warn("BaseClass", message);
     }
 }
@@ -0,0 +1,207 @@
+package Base;
+
+import ActionDriver.Action;
+import ActionDriver.CommandProfiler;
+import ActionDriver.EventLog;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A launched browser together with its Action helper.
+ * Tracks which test class last used it so it can be reused (and reset) between test methods.
+ */
+public final class BrowserSession {
+    private final WebDriver driver;
+    private final Action action;
+    private final LaunchProfile profile;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile String owner;
+    private volatile int testsServed;
+    private volatile String preparedStep;
+    private volatile NetworkInterceptor networkInterceptor;
+    private volatile TrafficArchive trafficArchive;
+    private final ConcurrentLinkedQueue<String> archiveMisses = new ConcurrentLinkedQueue<>();
+    private volatile WebDriver counting;
+
+    public BrowserSession(WebDriver driver, Action action, LaunchProfile profile) {
+        this.driver = driver;
+        this.action = action;
+        this.profile = profile;
+    }
+
+    /** The session's driver; a counting one while {@link #countCommands} is on. */
+    public WebDriver driver() {
+        WebDriver c = counting;
+        return c != null ? c : driver;
+    }
+
+    /**
+     * Hands out a {@link CommandProfiler} driver until switched off again, so the running test's commands are
+     * counted for its budget although the session was launched without commands.profile.
+     */
+    void countCommands(boolean on) {
+        counting = on ? CommandProfiler.wrap(driver) : null;
+    }
+
+    public Action action() {
+        return action;
+    }
+
+    /** Launch profile the browser was started with. */
+    public LaunchProfile profile() {
+        return profile;
+    }
+
+    /** Runs a full page navigation and records its duration against the launch profile. */
+    public void timedNavigation(Runnable navigation) {
+        long start = System.nanoTime();
+        navigation.run();
+        profile.recordNavigation((System.nanoTime() - start) / 1_000_000L);
+    }
+
+    /** Network interceptor routing this browser's traffic through the configured filters (see {@link NetworkTap}). */
+    void setNetworkInterceptor(NetworkInterceptor interceptor) {
+        this.networkInterceptor = interceptor;
+    }
+
+    /** This session's view of the traffic archive, rewound between tests. */
+    void setTrafficArchive(TrafficArchive archive) {
+        this.trafficArchive = archive;
+    }
+
+    /** Starts the next test's replay at the first recorded response of every request. */
+    public void rewindTrafficArchive() {
+        TrafficArchive archive = trafficArchive;
+        if (archive != null) {
+            archive.rewind();
+        }
+    }
+
+    /** Records a request the replayed traffic archive had no response for (see {@link TrafficArchive}). */
+    void recordArchiveMiss(String request) {
+        archiveMisses.add(request);
+    }
+
+    /** Returns the archive misses recorded since the last call and forgets them. */
+    public List<String> drainArchiveMisses() {
+        List<String> drained = new ArrayList<>();
+        for (String miss; (miss = archiveMisses.poll()) != null; ) {
+            drained.add(miss);
+        }
+        return drained;
+    }
+
+    /** Test class that last claimed this session. */
+    public String owner() {
+        return owner;
+    }
+
+    /** Number of test methods that have run on this session. */
+    public int testsServed() {
+        return testsServed;
+    }
+
+    void claim(String owner) {
+        this.owner = owner;
+        this.testsServed++;
+    }
+
+    /** Records that the session was driven to the given wizard step ahead of time (see {@link SessionPool}). */
+    void markPrepared(String step) {
+        this.preparedStep = step;
+    }
+
+    /** Whether the session is parked on the given step and nothing has navigated it since. */
+    public boolean isPreparedAt(String step) {
+        return step != null && step.equals(preparedStep);
+    }
+
+    /** Returns true once if the session was prepared at the given step, then forgets it. */
+    public boolean consumePreparedStep(String step) {
+        if (!isPreparedAt(step)) return false;
+        preparedStep = null;
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /** Cheap liveness probe: the browser still answers and has at least one window. */
+    public boolean isHealthy() {
+        if (isClosed() || driver == null) return false;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (handles == null || handles.isEmpty()) return false;
+            ((JavascriptExecutor) driver).executeScript("return 1;");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Clears per-test browser state so the next test starts clean: extra windows, web storage,
+     * cookies (all domains when CDP is available) and the current page (about:blank).
+     * Returns false if the session could not be reset and should be relaunched.
+     */
+    public boolean reset() {
+        if (isClosed() || driver == null) return false;
+        preparedStep = null;
+        try {
+            closeExtraWindows();
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); } catch (e) {}" +
+                        "try { window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception ignored) {}
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp) {
+                try {
+                    ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+                } catch (Exception ignored) {}
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            EventLog.warn("BrowserSession", "Browser reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeExtraWindows() {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        if (handles.size() <= 1) return;
+        String keep = handles.get(0);
+        for (String handle : handles.subList(1, handles.size())) {
+            try {
+                driver.switchTo().window(handle);
+                driver.close();
+            } catch (Exception ignored) {}
+        }
+        driver.switchTo().window(keep);
+    }
+
+    /** Quits the browser once; later calls (from any thread) are no-ops. */
+    public void quit() {
+        if (closed.compareAndSet(false, true) && driver != null) {
+            if (networkInterceptor != null) {
+                try {
+                    networkInterceptor.close();
+                } catch (Exception ignored) {}
+            }
+            try {
+                driver.quit();
+            } catch (Exception ignored) {}
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package Base;
+
+import ActionDriver.EventLog;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM.
+ * The resolved driver path and version are saved to a local metadata file, so later runs
+ * point Selenium at the cached binary without WebDriverManager's driver lookup or network access. The cached
+ * driver is only trusted while the installed browser's major version (read locally) still matches the one it was
+ * resolved for, so a browser auto-update re-resolves it. Set drivers.refresh=true to force a new resolution.
+ * A failed resolution is remembered for the rest of the JVM and Selenium Manager finds the driver instead.
+ */
+public final class DriverBinaries {
+    /** Stored in RESOLVED when resolution failed, so later sessions do not retry it. */
+    private static final String FAILED = "";
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaries() {}
+
+    /**
+     * Makes sure the driver for the given browser ("chrome", "firefox" or "ie") is resolved
+     * and exported through its webdriver.*.driver system property. Returns the driver path, or null
+     * when resolution failed and Selenium Manager is left to find a driver.
+     */
+    public static synchronized String ensure(String browser) {
+        String key = browser.toLowerCase();
+        String path = RESOLVED.get(key);
+        if (path != null) {
+            return path.equals(FAILED) ? null : path;
+        }
+        long start = System.nanoTime();
+        Path metadataFile = metadataFile();
+        Properties metadata = load(metadataFile);
+        boolean refresh = "true".equalsIgnoreCase(BaseClass.getSetting("drivers.refresh", "false"));
+        String cached = metadata.getProperty(key + ".path");
+        String installedMajor = installedBrowserMajor(key);
+        String cachedMajor = metadata.getProperty(key + ".browserMajor", "");
+        boolean browserChanged = !installedMajor.isEmpty() && !cachedMajor.isEmpty()
+                && !installedMajor.equals(cachedMajor);
+        if (browserChanged) {
+            EventLog.note("DriverBinaries", "Browser " + key + " is now " + installedMajor + " (driver cached for " + cachedMajor
+                    + "), resolving again");
+        }
+        if (!refresh && !browserChanged && cached != null && Files.isExecutable(Paths.get(cached))) {
+            path = cached;
+            System.setProperty(systemProperty(key), path);
+            EventLog.note("DriverBinaries", "Driver (cached) " + key + " " + metadata.getProperty(key + ".driverVersion", "?")
+                    + " -> " + path + " in " + elapsedMillis(start) + " ms");
+        } else {
+            try {
+                WebDriverManager wdm = manager(key);
+                wdm.setup();
+                path = wdm.getDownloadedDriverPath();
+                String version = wdm.getDownloadedDriverVersion();
+                if (path != null) {
+                    metadata.setProperty(key + ".path", path);
+                    metadata.setProperty(key + ".driverVersion", version != null ? version : "");
+                    metadata.setProperty(key + ".browserMajor",
+                            installedMajor.isEmpty() ? majorOf(version) : installedMajor);
+                    metadata.setProperty(key + ".resolvedAt", Instant.now().toString());
+                    save(metadataFile, metadata);
+                }
+                EventLog.note("DriverBinaries", "Driver resolved " + key + " " + version + " -> " + path
+                        + " in " + elapsedMillis(start) + " ms");
+            } catch (Exception e) {
+                EventLog.warn("DriverBinaries", "Driver resolution failed for " + key + ", leaving it to Selenium Manager: "
+                        + e.getMessage());
+                RESOLVED.put(key, FAILED);
+                return null;
+            }
+        }
+        RESOLVED.put(key, path != null ? path : FAILED);
+        return path;
+    }
+
+    /**
+     * Major version of the installed browser, detected from the local shell (no network), or "" when it cannot be
+     * detected; the cached driver is then used as is.
+     */
+    private static String installedBrowserMajor(String key) {
+        if ("ie".equals(key)) return "";
+        try {
+            Config config = manager(key).config();
+            return majorOf(new VersionDetector(config, new HttpClient(config))
+                    .getBrowserVersionFromTheShell(key).orElse(null));
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private static WebDriverManager manager(String key) {
+        switch (key) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "ie":
+                return WebDriverManager.iedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String systemProperty(String key) {
+        switch (key) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "ie":
+                return "webdriver.ie.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static Path metadataFile() {
+        String configured = BaseClass.getSetting("drivers.cache.file", null);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "travel-insurance-automation", "driver-binaries.properties");
+    }
+
+    private static Properties load(Path file) {
+        Properties metadata = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                metadata.load(in);
+            } catch (IOException e) {
+                EventLog.warn("DriverBinaries", "Could not read driver metadata " + file + ": " + e.getMessage());
+            }
+        }
+        return metadata;
+    }
+
+    private static void save(Path file, Properties metadata) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                metadata.store(out, "Resolved browser driver binaries");
+            }
+        } catch (IOException e) {
+            EventLog.warn("DriverBinaries", "Could not save driver metadata " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static String majorOf(String version) {
+        if (version == null) return "";
+        int dot = version.indexOf('.');
+        return dot > 0 ? version.substring(0, dot) : version;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+}
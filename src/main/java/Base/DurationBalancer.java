@@ -0,0 +1,163 @@
+package Base;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+import utils.RunReports;
+import utils.Shard;
+import utils.TestDurations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Schedules test methods longest-processing-time first from the durations of earlier runs. With parallel="methods"
+ * each idle worker takes the next method in this order, so the slow calendar tests start first and the workers
+ * finish at about the same time instead of one being left with them at the end. The planned placement, its
+ * predicted finish times and the actual busy time per worker go to target/perf/test-balance.txt; durations are
+ * learned into .perf/test-durations.properties. tests.balance=false keeps TestNG's order.
+ * When the suite runs as several JVM shards ({@link Shard}), each shard first takes its slice of the methods,
+ * packed the same way so the shards also finish together. Plans and slices come from the durations as loaded,
+ * never from this run's results, so every shard slices every &lt;test&gt; alike however far it has got.
+ * Registered in testng.xml so it sees every &lt;test&gt;, including those without BaseClass tests.
+ */
+public class DurationBalancer implements IMethodInterceptor, ITestListener, ISuiteListener {
+    /** Durations as loaded; what every plan and shard slice is estimated from. */
+    private final TestDurations planned;
+    /** This run's results blended into the loaded durations; saved when the suite finishes. */
+    private final TestDurations learned;
+    private final int shardIndex;
+    private final int shardCount;
+    private final StringBuffer plan = new StringBuffer();
+    private final Map<String, Long> busyByThread = new ConcurrentHashMap<>();
+
+    public DurationBalancer() {
+        this(TestDurations.load(TestDurations.defaultFile()), Shard.index(), Shard.count());
+    }
+
+    /** Balancer planning from the given durations, as shard shardIndex of shardCount. */
+    public DurationBalancer(TestDurations known, int shardIndex, int shardCount) {
+        this.planned = known.copy();
+        this.learned = known.copy();
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        ToLongFunction<IMethodInstance> estimate = m -> planned.estimate(testId(m.getMethod()));
+        if (shardCount > 1) {
+            methods = shardSlice(methods, estimate, context.getName());
+        }
+        if ("false".equalsIgnoreCase(BaseClass.getSetting("tests.balance", "true")) || methods.size() < 2) {
+            return methods;
+        }
+        List<List<IMethodInstance>> workers = pack(methods, estimate, workers(context.getCurrentXmlTest()));
+        plan.append(describe(context.getName(), workers, estimate));
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong(estimate).reversed());
+        return ordered;
+    }
+
+    /**
+     * Longest-processing-time-first packing: items by descending weight, each onto the least loaded of the bins
+     * (the lowest-numbered one on a tie). Within a bin the items keep that order.
+     */
+    public static <T> List<List<T>> pack(List<T> items, ToLongFunction<T> weight, int bins) {
+        int count = Math.max(1, bins);
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(weight).reversed());
+        List<List<T>> packed = new ArrayList<>();
+        long[] load = new long[count];
+        for (int i = 0; i < count; i++) packed.add(new ArrayList<>());
+        for (T item : sorted) {
+            int least = 0;
+            for (int i = 1; i < count; i++) {
+                if (load[i] < load[least]) least = i;
+            }
+            packed.get(least).add(item);
+            load[least] += weight.applyAsLong(item);
+        }
+        return packed;
+    }
+
+    /**
+     * This shard's methods: every shard packs the same id-sorted list by the same durations, so the slices
+     * cover each method exactly once. Shards save their durations separately and leave
+     * .perf/test-durations.properties unchanged until ShardReports folds them in.
+     */
+    private List<IMethodInstance> shardSlice(List<IMethodInstance> methods, ToLongFunction<IMethodInstance> estimate,
+                                             String testName) {
+        List<IMethodInstance> byId = new ArrayList<>(methods);
+        byId.sort(Comparator.comparing(m -> testId(m.getMethod())));
+        List<IMethodInstance> slice = pack(byId, estimate, shardCount).get(shardIndex);
+        plan.append(String.format("shard-%d: %d of %d method(s) of \"%s\"%n", shardIndex, slice.size(), methods.size(),
+                testName));
+        return slice;
+    }
+
+    private static int workers(XmlTest test) {
+        if (test == null || test.getParallel() == null || !test.getParallel().isParallel()) return 1;
+        return Math.max(1, test.getThreadCount());
+    }
+
+    private String describe(String testName, List<List<IMethodInstance>> workers,
+                                   ToLongFunction<IMethodInstance> estimate) {
+        StringBuilder sb = new StringBuilder("Planned placement for \"" + testName + "\" on " + workers.size()
+                + " worker(s), longest first (* = no recorded duration yet)\n");
+        for (int w = 0; w < workers.size(); w++) {
+            long total = 0;
+            List<String> names = new ArrayList<>();
+            for (IMethodInstance m : workers.get(w)) {
+                String id = testId(m.getMethod());
+                total += estimate.applyAsLong(m);
+                names.add(id + (planned.isKnown(id) ? "" : "*"));
+            }
+            sb.append(String.format("  worker %d  predicted %7d ms  %s%n", w + 1, total, String.join(", ", names)));
+        }
+        return sb.toString();
+    }
+
+    private static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+
+    private void finished(ITestResult result) {
+        long millis = result.getEndMillis() - result.getStartMillis();
+        if (millis < 0) return;
+        learned.record(testId(result.getMethod()), millis);
+        busyByThread.merge(Thread.currentThread().getName(), millis, Long::sum);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finished(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finished(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        learned.save(Shard.active() ? TestDurations.shardFile(Shard.label()) : TestDurations.defaultFile());
+        if (plan.length() == 0) return;
+        StringBuilder sb = new StringBuilder(plan);
+        sb.append("Actual test time per worker thread\n");
+        new TreeMap<>(busyByThread).forEach((thread, millis) ->
+                sb.append(String.format("  %-28s %7d ms%n", thread, millis)));
+        RunReports.write("test-balance.txt", sb.toString());
+    }
+}
@@ -0,0 +1,118 @@
+package Base;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import utils.LatencyStats;
+
+/**
+ * Named browser launch profile, selected with launch.profile (config or -D).
+ * Each profile collects its own startup and navigation timings so runs can be compared in target/perf.
+ */
+public enum LaunchProfile {
+    /** Current behaviour: normal page load strategy, headless flags only in CI, maximized window locally. */
+    DEFAULT("default", PageLoadStrategy.NORMAL, 0, 0),
+
+    /**
+     * Eager page loads, no background networking, extensions, component updates or image decoding,
+     * and a fixed small viewport.
+     */
+    FAST_LANE("fast-lane", PageLoadStrategy.EAGER, 1280, 800);
+
+    private final String id;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final int width;
+    private final int height;
+    private final LatencyStats startup = new LatencyStats();
+    private final LatencyStats navigation = new LatencyStats();
+
+    LaunchProfile(String id, PageLoadStrategy pageLoadStrategy, int width, int height) {
+        this.id = id;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Parses the launch.profile setting ("default", "fast-lane"/"fast"); unknown values fall back to DEFAULT. */
+    public static LaunchProfile from(String value) {
+        if (value == null) return DEFAULT;
+        String v = value.trim().toLowerCase().replace('_', '-');
+        return v.equals("fast-lane") || v.equals("fast") || v.equals("fastlane") ? FAST_LANE : DEFAULT;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /** Whether the profile dictates the window size (otherwise BaseClass maximizes locally). */
+    public boolean hasFixedViewport() {
+        return width > 0 && height > 0;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /** Applies the profile to Chrome options; CI headless flags are added for every profile. */
+    public ChromeOptions chromeOptions(boolean inCi) {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (inCi) {
+            options.addArguments(
+                    "--headless=new",
+                    "--no-sandbox",
+                    "--disable-dev-shm-usage",
+                    "--disable-gpu"
+            );
+        }
+        if (this == FAST_LANE) {
+            options.addArguments(
+                    "--disable-background-networking",
+                    "--disable-extensions",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--no-first-run",
+                    "--blink-settings=imagesEnabled=false",
+                    "--window-size=" + width + "," + height
+            );
+        } else if (inCi) {
+            options.addArguments("--window-size=1920,1080");
+        }
+        return options;
+    }
+
+    /** Applies the profile to Firefox options. */
+    public FirefoxOptions firefoxOptions() {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (this == FAST_LANE) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("app.update.enabled", false);
+        }
+        return options;
+    }
+
+    /** Time from driver construction start until the browser session is ready. */
+    public void recordStartup(long millis) {
+        startup.record(millis);
+    }
+
+    /** Time of a full page navigation (driver.get) in a session launched with this profile. */
+    public void recordNavigation(long millis) {
+        navigation.record(millis);
+    }
+
+    /** Timing summary for the report; empty string when the profile was not used in this run. */
+    public String report() {
+        if (startup.count() == 0 && navigation.count() == 0) return "";
+        return "Launch profile: " + id + " (page load strategy " + pageLoadStrategy + ")\n"
+                + "startup:    " + startup.summary() + "\n"
+                + "navigation: " + navigation.summary() + "\n";
+    }
+}
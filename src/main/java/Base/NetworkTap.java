@@ -0,0 +1,49 @@
+package Base;
+
+import ActionDriver.EventLog;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpRequest;
+
+import java.util.List;
+
+/**
+ * Attaches one DevTools network interceptor per browser and routes every request through
+ * the traffic filters enabled in config (outermost first).
+ * Requests are released at the request stage unless a filter marks them with {@link #NEEDS_RESPONSE},
+ * so untouched traffic does not pay for a second pause at the response stage.
+ */
+public final class NetworkTap {
+    /** Request attribute a filter sets when it needs the real upstream response. */
+    public static final String NEEDS_RESPONSE = "networkTap.needsResponse";
+
+    private static final Filter RELEASE_UNLESS_NEEDED = next -> req ->
+            Boolean.TRUE.equals(req.getAttribute(NEEDS_RESPONSE)) ? next.execute(req) : NetworkInterceptor.PROCEED_WITH_REQUEST;
+
+    private NetworkTap() {}
+
+    /**
+     * Starts intercepting the browser's traffic with the given filters. Returns null (no interception)
+     * when there are no filters or the browser does not support DevTools.
+     */
+    public static NetworkInterceptor attach(WebDriver driver, List<Filter> filters) {
+        if (filters == null || filters.isEmpty()) return null;
+        if (!(driver instanceof HasDevTools)) {
+            EventLog.warn("NetworkTap", "Network filters need a DevTools-capable browser (Chrome/Edge); skipping");
+            return null;
+        }
+        Filter chain = filters.get(0);
+        for (Filter filter : filters.subList(1, filters.size())) {
+            chain = chain.andThen(filter);
+        }
+        return new NetworkInterceptor(driver, chain.andThen(RELEASE_UNLESS_NEEDED));
+    }
+
+    /** Marks the request so the chain waits for and hands back the real response. */
+    public static HttpRequest needResponse(HttpRequest req) {
+        req.setAttribute(NEEDS_RESPONSE, Boolean.TRUE);
+        return req;
+    }
+}
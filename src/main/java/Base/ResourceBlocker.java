@@ -0,0 +1,229 @@
+package Base;
+
+import ActionDriver.EventLog;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import utils.Shard;
+import utils.StateFiles;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Network filter that blocks third-party resources (analytics, fonts, chat widgets, marketing pixels)
+ * by URL pattern. Patterns are globs where '*' matches any characters; allowlist patterns win over the blocklist.
+ * In OBSERVE mode matching requests still load and their response sizes are measured per pattern;
+ * the averages are saved between runs so BLOCK mode can report the bytes it kept off the wire.
+ */
+public final class ResourceBlocker implements Filter {
+    public enum Mode {
+        OFF, BLOCK, OBSERVE;
+
+        public static Mode from(String value) {
+            if (value == null) return OFF;
+            switch (value.trim().toLowerCase()) {
+                case "block":
+                case "true":
+                    return BLOCK;
+                case "observe":
+                    return OBSERVE;
+                default:
+                    return OFF;
+            }
+        }
+    }
+
+    /** Blocklist used when network.block is not configured. */
+    public static final List<String> DEFAULT_BLOCKLIST = Collections.unmodifiableList(Arrays.asList(
+            "*google-analytics.com/*",
+            "*googletagmanager.com/*",
+            "*doubleclick.net/*",
+            "*googlesyndication.com/*",
+            "*googleadservices.com/*",
+            "*connect.facebook.net/*",
+            "*facebook.com/tr*",
+            "*hotjar.com/*",
+            "*clarity.ms/*",
+            "*fonts.googleapis.com/*",
+            "*fonts.gstatic.com/*",
+            "*.woff*",
+            "*livechatinc.com/*",
+            "*zopim.com/*",
+            "*zdassets.com/*",
+            "*intercom.io/*",
+            "*snap.licdn.com/*",
+            "*analytics.tiktok.com/*",
+            "*taboola.com/*",
+            "*outbrain.com/*"
+    ));
+
+    /** .perf file the sizes are kept in; ShardReports folds shard files of this name with StateFiles.latest. */
+    private static final String SIZES_NAME = "blocked-resource-sizes";
+    private static final String SIZES_COMMENT = "Average response size per blocklist pattern (bytes), from observe runs";
+
+    private final Mode mode;
+    private final List<Pattern> block;
+    private final List<Pattern> allow;
+    private final List<String> blockGlobs;
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong observedRequests = new AtomicLong();
+    private final AtomicLong observedBytes = new AtomicLong();
+    private final Map<String, LongAdder> perPattern = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> bytesPerPattern = new ConcurrentHashMap<>();
+
+    public ResourceBlocker(Mode mode, List<String> blockGlobs, List<String> allowGlobs) {
+        this.mode = mode;
+        this.blockGlobs = new ArrayList<>(blockGlobs);
+        this.block = compile(blockGlobs);
+        this.allow = compile(allowGlobs);
+    }
+
+    /** Builds the blocker from comma-separated glob lists; an empty blocklist selects {@link #DEFAULT_BLOCKLIST}. */
+    public static ResourceBlocker fromSettings(String mode, String blockList, String allowList) {
+        List<String> blockGlobs = split(blockList);
+        return new ResourceBlocker(Mode.from(mode), blockGlobs.isEmpty() ? DEFAULT_BLOCKLIST : blockGlobs, split(allowList));
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /** Returns the blocklist glob the URL matches, or null when it is allowed. */
+    public String match(String url) {
+        if (url == null) return null;
+        for (Pattern p : allow) {
+            if (p.matcher(url).matches()) return null;
+        }
+        for (int i = 0; i < block.size(); i++) {
+            if (block.get(i).matcher(url).matches()) return blockGlobs.get(i);
+        }
+        return null;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return req -> {
+            String glob = mode == Mode.OFF ? null : match(req.getUri());
+            if (glob == null) {
+                return next.execute(req);
+            }
+            perPattern.computeIfAbsent(glob, k -> new LongAdder()).increment();
+            if (mode == Mode.BLOCK) {
+                blockedRequests.incrementAndGet();
+                return new HttpResponse().setStatus(204);
+            }
+            HttpResponse res = next.execute(NetworkTap.needResponse(req));
+            observedRequests.incrementAndGet();
+            long length = declaredLength(res.getHeader("Content-Length"));
+            if (length == 0) {
+                try {
+                    length = Contents.bytes(res.getContent()).length;
+                } catch (Exception ignored) {}
+            }
+            observedBytes.addAndGet(length);
+            bytesPerPattern.computeIfAbsent(glob, k -> new LongAdder()).add(length);
+            return res;
+        };
+    }
+
+    public long blockedRequests() {
+        return blockedRequests.get();
+    }
+
+    public long observedRequests() {
+        return observedRequests.get();
+    }
+
+    public long observedBytes() {
+        return observedBytes.get();
+    }
+
+    /**
+     * Per-run summary. Blocked responses are never downloaded, so in BLOCK mode the bytes are estimated
+     * from the per-pattern average sizes measured by the last OBSERVE run.
+     */
+    public String report() {
+        Properties sizes = StateFiles.load(StateFiles.file(SIZES_NAME));
+        if (mode == Mode.OBSERVE) {
+            Properties measured = new Properties();
+            for (Map.Entry<String, LongAdder> e : perPattern.entrySet()) {
+                long bytes = bytesPerPattern.getOrDefault(e.getKey(), new LongAdder()).sum();
+                measured.setProperty(e.getKey(), Long.toString(bytes / Math.max(1, e.getValue().sum())));
+            }
+            sizes.putAll(measured);
+            // A shard saves only what it measured; ShardReports folds it into the shared file
+            saveSizes(Shard.active() ? measured : sizes);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Third-party resource blocking (mode=").append(mode).append(")\n");
+        long estimated = 0;
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(perPattern).entrySet()) {
+            long count = e.getValue().sum();
+            long avg = Long.parseLong(sizes.getProperty(e.getKey(), "0"));
+            estimated += count * avg;
+            lines.append(String.format("  %6d requests  avg %8d bytes  %s%n", count, avg, e.getKey()));
+        }
+        if (mode == Mode.BLOCK) {
+            sb.append("blocked requests=").append(blockedRequests.get())
+                    .append(" blocked bytes (estimated from observe runs)=").append(estimated).append('\n');
+        } else {
+            sb.append("matching requests=").append(observedRequests.get())
+                    .append(" matching response bytes=").append(observedBytes.get()).append('\n');
+        }
+        return sb.append(lines).toString();
+    }
+
+    private static void saveSizes(Properties sizes) {
+        Path file = StateFiles.forThisRun(SIZES_NAME);
+        try {
+            StateFiles.store(file, sizes, SIZES_COMMENT);
+        } catch (IOException e) {
+            EventLog.warn("ResourceBlocker", "Could not save " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static long declaredLength(String header) {
+        if (header == null) return 0;
+        try {
+            return Math.max(0, Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<String> split(String list) {
+        List<String> out = new ArrayList<>();
+        if (list == null) return out;
+        for (String part : list.split(",")) {
+            if (!part.trim().isEmpty()) out.add(part.trim());
+        }
+        return out;
+    }
+
+    private static List<Pattern> compile(List<String> globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            List<String> literals = new ArrayList<>();
+            for (String literal : glob.split("\\*", -1)) {
+                literals.add(literal.isEmpty() ? "" : Pattern.quote(literal));
+            }
+            patterns.add(Pattern.compile(String.join(".*", literals), Pattern.CASE_INSENSITIVE));
+        }
+        return patterns;
+    }
+}
@@ -0,0 +1,24 @@
+package Base;
+
+/**
+ * How long a browser session is kept alive by a worker thread.
+ * NONE relaunches per test method (default), CLASS keeps one browser per worker for a test class,
+ * SUITE keeps one browser per worker for the whole suite.
+ */
+public enum ReuseScope {
+    NONE, CLASS, SUITE;
+
+    /** Parses the "session.reuse" setting; unknown values fall back to NONE. */
+    public static ReuseScope from(String value) {
+        if (value == null) return NONE;
+        switch (value.trim().toLowerCase()) {
+            case "class":
+                return CLASS;
+            case "suite":
+            case "true":
+                return SUITE;
+            default:
+                return NONE;
+        }
+    }
+}
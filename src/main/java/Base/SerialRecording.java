@@ -0,0 +1,28 @@
+package Base;
+
+import ActionDriver.EventLog;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * Runs the suite one test at a time while the traffic archive is recorded (network.archive=record).
+ * The archive keeps one response list per request and replays it from the start for every test, so tests
+ * recorded in parallel would interleave their responses and replay each other's. The setting is read from the
+ * system properties (-Dnetwork.archive=record): the suite is set up before the configuration file is loaded.
+ * Registered in testng.xml, since the parallel mode has to change before any &lt;test&gt; starts.
+ */
+public class SerialRecording implements ISuiteListener {
+    @Override
+    public void onStart(ISuite suite) {
+        String mode = BaseClass.getSetting("network.archive", "off");
+        if (TrafficArchive.Mode.from(mode) != TrafficArchive.Mode.RECORD) return;
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        xmlSuite.setParallel(XmlSuite.ParallelMode.NONE);
+        for (XmlTest test : xmlSuite.getTests()) {
+            test.setParallel(XmlSuite.ParallelMode.NONE);
+        }
+        EventLog.note("SerialRecording", "Recording the traffic archive: tests run one at a time");
+    }
+}
@@ -0,0 +1,195 @@
+package Base;
+
+import ActionDriver.EventLog;
+import pagesObject.TravelPolicyPage;
+import utils.LatencyStats;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of standby browser sessions that background threads launch and drive to a wizard step
+ * (the landing page, or the destination step) while earlier tests are still running.
+ * Tests lease a prepared session; when none is ready the pool launches one inline (a miss).
+ */
+public final class SessionPool {
+    public static final String STEP_LANDING = "landing";
+    public static final String STEP_DESTINATION = "destination";
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+    private final int size;
+    private final String step;
+    private final String landingUrl;
+    private final Supplier<BrowserSession> launcher;
+    private final BlockingQueue<BrowserSession> ready = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final Queue<Lease> leases = new ConcurrentLinkedQueue<>();
+    private final LatencyStats leaseTimes = new LatencyStats();
+    private volatile boolean closed;
+
+    public SessionPool(int size, String step, String landingUrl, Supplier<BrowserSession> launcher) {
+        this.size = Math.max(1, size);
+        this.step = STEP_LANDING.equalsIgnoreCase(step) ? STEP_LANDING : STEP_DESTINATION;
+        this.landingUrl = landingUrl;
+        this.launcher = launcher;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.size, r -> {
+            Thread t = new Thread(r, "standby-session-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < this.size; i++) {
+            prepareInBackground(null);
+        }
+        EventLog.note("SessionPool", "Standby pool started: " + this.size + " session(s) -> " + this.step);
+    }
+
+    /** Step that prepared sessions are parked on. */
+    public String step() {
+        return step;
+    }
+
+    /**
+     * Leases a session for the given test. Waits up to timeoutMillis while sessions are still being
+     * prepared; if none becomes ready the session is launched inline and returned unprepared.
+     */
+    public BrowserSession lease(String label, long timeoutMillis) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis));
+        BrowserSession session = null;
+        try {
+            while (session == null) {
+                session = ready.poll();
+                if (session == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (inFlight.get() == 0 || remaining <= 0) break;
+                    session = ready.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(250)), TimeUnit.NANOSECONDS);
+                }
+                if (session != null && !session.isHealthy()) {
+                    session.quit();
+                    session = null;
+                    prepareInBackground(null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean hit = session != null;
+        if (hit) {
+            hits.incrementAndGet();
+            // Keep the standby count at size while the leased session is busy
+            prepareInBackground(null);
+        } else {
+            misses.incrementAndGet();
+            session = launcher.get();
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        leases.add(new Lease(label, millis, hit));
+        leaseTimes.record(millis);
+        return session;
+    }
+
+    /** Takes back a session after its test: re-prepared if the pool is below size, otherwise quit. */
+    public void recycle(BrowserSession session) {
+        if (session == null) return;
+        if (closed || ready.size() + inFlight.get() >= size) {
+            session.quit();
+            return;
+        }
+        prepareInBackground(session);
+    }
+
+    private void prepareInBackground(BrowserSession recycled) {
+        if (closed) {
+            if (recycled != null) recycled.quit();
+            return;
+        }
+        inFlight.incrementAndGet();
+        workers.submit(() -> {
+            BrowserSession session = recycled;
+            try {
+                if (session == null || !session.reset()) {
+                    if (session != null) session.quit();
+                    session = launcher.get();
+                }
+                prepare(session);
+                failures.set(0);
+                if (closed) {
+                    session.quit();
+                } else {
+                    ready.offer(session);
+                }
+            } catch (Exception e) {
+                EventLog.warn("SessionPool", "Standby session preparation failed: " + e.getMessage());
+                if (session != null) session.quit();
+                if (failures.incrementAndGet() < MAX_CONSECUTIVE_FAILURES) {
+                    prepareInBackground(null);
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private void prepare(BrowserSession session) {
+        TravelPolicyPage landing = new TravelPolicyPage(session.driver(), landingUrl);
+        session.timedNavigation(landing::open);
+        if (STEP_DESTINATION.equals(step)) {
+            landing.clickPurchaseForNewCustomer();
+        }
+        session.markPrepared(step);
+    }
+
+    /** Stops background preparation and quits all standby sessions. */
+    public void shutdown() {
+        closed = true;
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        BrowserSession session;
+        while ((session = ready.poll()) != null) {
+            session.quit();
+        }
+    }
+
+    /** Hit/miss counts plus per-lease timings, one line per lease. */
+    public String report() {
+        int total = hits.get() + misses.get();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Standby session pool (size=").append(size).append(", step=").append(step).append(")\n");
+        sb.append(String.format("leases=%d hits=%d misses=%d hitRate=%.0f%%%n",
+                total, hits.get(), misses.get(), total == 0 ? 0.0 : 100.0 * hits.get() / total));
+        sb.append("lease time: ").append(leaseTimes.summary()).append('\n');
+        for (Lease lease : leases) {
+            sb.append(String.format("  %-6s %6d ms  %s%n", lease.hit ? "HIT" : "MISS", lease.millis, lease.label));
+        }
+        return sb.toString();
+    }
+
+    private static final class Lease {
+        final String label;
+        final long millis;
+        final boolean hit;
+
+        Lease(String label, long millis, boolean hit) {
+            this.label = label;
+            this.millis = millis;
+            this.hit = hit;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package Base;
+
+import ActionDriver.Action;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of browser sessions confined to the TestNG worker thread that created them.
+ * Each thread owns its own WebDriver/Action pair, so tests can run with parallel="methods".
+ */
+public final class SessionRegistry {
+    private static final ThreadLocal<BrowserSession> CURRENT = new ThreadLocal<>();
+    // Every session that is still open, across all threads (safety net for suite teardown)
+    private static final Set<BrowserSession> LIVE = ConcurrentHashMap.newKeySet();
+
+    private SessionRegistry() {}
+
+    /** Binds the given session to the current thread. */
+    static void register(BrowserSession session) {
+        CURRENT.set(session);
+        if (session != null) {
+            LIVE.add(session);
+        }
+    }
+
+    /** Returns the session bound to the current thread, or null if none was launched. */
+    public static BrowserSession current() {
+        return CURRENT.get();
+    }
+
+    /** Returns the WebDriver owned by the current thread, or null if none was launched. */
+    public static WebDriver driver() {
+        BrowserSession session = CURRENT.get();
+        return session != null ? session.driver() : null;
+    }
+
+    /** Returns the Action helper owned by the current thread. */
+    public static Action action() {
+        BrowserSession session = CURRENT.get();
+        return session != null ? session.action() : null;
+    }
+
+    /** Unbinds and returns the current thread's session (caller is responsible for quitting it). */
+    static BrowserSession release() {
+        BrowserSession session = CURRENT.get();
+        CURRENT.remove();
+        if (session != null) {
+            LIVE.remove(session);
+        }
+        return session;
+    }
+
+    /** Quits the sessions last claimed by the given test class (used when reuse is class-scoped). */
+    static void quitOwnedBy(String owner) {
+        for (BrowserSession session : LIVE) {
+            if (owner.equals(session.owner())) {
+                LIVE.remove(session);
+                session.quit();
+            }
+        }
+    }
+
+    /** Quits any session that was not released by its owning thread. */
+    static void quitAll() {
+        for (BrowserSession session : LIVE) {
+            session.quit();
+        }
+        LIVE.clear();
+    }
+
+    /** Number of sessions currently open across all threads. */
+    public static int liveCount() {
+        return LIVE.size();
+    }
+}
@@ -0,0 +1,357 @@
+package Base;
+
+import ActionDriver.EventLog;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Network filter that records every request/response exchange to an archive on disk (RECORD) and serves
+ * later runs from it (REPLAY) without touching the network. Exchanges are keyed by method, URL and request
+ * body; repeated requests are replayed in recorded order, the last response repeating. Each browser session
+ * ({@link #reportingTo}) keeps its own replay position and starts over for every test ({@link #rewind}), so
+ * parallel tests do not take each other's responses. Recording therefore runs one test at a time
+ * ({@link SerialRecording}), so that each response list is the order a single test saw.
+ * A replay miss goes to the network, or is answered with 404 and fails the test in strict mode.
+ */
+public final class TrafficArchive implements Filter {
+    public enum Mode {
+        OFF, RECORD, REPLAY;
+
+        public static Mode from(String value) {
+            if (value == null) return OFF;
+            switch (value.trim().toLowerCase()) {
+                case "record":
+                    return RECORD;
+                case "replay":
+                    return REPLAY;
+                default:
+                    return OFF;
+            }
+        }
+    }
+
+    /** Response headers that describe the original transfer rather than the (decoded) body we store. */
+    private static final Set<String> TRANSFER_HEADERS = new HashSet<>(Arrays.asList(
+            "content-length", "content-encoding", "transfer-encoding", "connection"));
+
+    private final Mode mode;
+    private final Path dir;
+    private final boolean strict;
+    private final Set<String> ignoredParams;
+    private final Consumer<String> onMiss;
+    private final Map<String, List<Entry>> entries;
+    private final Map<String, AtomicInteger> cursors;
+    private final AtomicLong hits;
+    private final AtomicLong recorded;
+    private final Map<String, AtomicInteger> misses;
+
+    public TrafficArchive(Mode mode, Path dir, boolean strict, List<String> ignoredParams) {
+        this.mode = mode;
+        this.dir = dir;
+        this.strict = strict;
+        this.ignoredParams = new HashSet<>(ignoredParams);
+        this.onMiss = url -> {};
+        this.entries = new ConcurrentHashMap<>();
+        this.cursors = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.recorded = new AtomicLong();
+        this.misses = new ConcurrentHashMap<>();
+        if (mode == Mode.RECORD) {
+            clear();
+        } else if (mode == Mode.REPLAY) {
+            load();
+        }
+    }
+
+    private TrafficArchive(TrafficArchive shared, Consumer<String> onMiss) {
+        this.mode = shared.mode;
+        this.dir = shared.dir;
+        this.strict = shared.strict;
+        this.ignoredParams = shared.ignoredParams;
+        this.onMiss = onMiss;
+        this.entries = shared.entries;
+        this.cursors = new ConcurrentHashMap<>();
+        this.hits = shared.hits;
+        this.recorded = shared.recorded;
+        this.misses = shared.misses;
+    }
+
+    /**
+     * Builds the archive from settings; ignoredParams is a comma-separated list of query parameters
+     * (cache busters, timestamps) left out of the request key.
+     */
+    public static TrafficArchive fromSettings(String mode, String dir, String strict, String ignoredParams) {
+        List<String> params = new ArrayList<>();
+        for (String part : ignoredParams.split(",")) {
+            if (!part.trim().isEmpty()) params.add(part.trim());
+        }
+        return new TrafficArchive(Mode.from(mode), Paths.get(dir).toAbsolutePath(),
+                "true".equalsIgnoreCase(strict), params);
+    }
+
+    /**
+     * Same archive for one browser session: replays with its own position in the recorded order and reports
+     * each replay miss (the URL) to the session.
+     */
+    public TrafficArchive reportingTo(Consumer<String> onMiss) {
+        return new TrafficArchive(this, onMiss);
+    }
+
+    /** Replays every request from its first recorded response again (called between the tests of a session). */
+    public void rewind() {
+        cursors.clear();
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return req -> {
+            if (mode == Mode.RECORD) {
+                return record(req, next);
+            }
+            if (mode == Mode.REPLAY) {
+                String key = key(req);
+                List<Entry> recordedEntries = entries.get(key);
+                if (recordedEntries != null && !recordedEntries.isEmpty()) {
+                    hits.incrementAndGet();
+                    int i = cursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+                    return recordedEntries.get(Math.min(i, recordedEntries.size() - 1)).toResponse();
+                }
+                misses.computeIfAbsent(req.getMethod() + " " + req.getUri(), k -> new AtomicInteger()).incrementAndGet();
+                onMiss.accept(req.getMethod() + " " + req.getUri());
+                if (strict) {
+                    return new HttpResponse().setStatus(404)
+                            .setHeader("Content-Type", "text/plain")
+                            .setContent(Contents.utf8String("Not in traffic archive: " + req.getUri()));
+                }
+            }
+            return next.execute(req);
+        };
+    }
+
+    private HttpResponse record(HttpRequest req, HttpHandler next) {
+        HttpResponse res = next.execute(NetworkTap.needResponse(req));
+        byte[] body;
+        try {
+            body = Contents.bytes(res.getContent());
+        } catch (Exception e) {
+            body = new byte[0];
+        }
+        res.setContent(Contents.bytes(body));
+        Entry entry = new Entry(req.getMethod().toString(), req.getUri(), res.getStatus(), headers(res), body);
+        String key = key(req);
+        List<Entry> list = entries.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        synchronized (list) {
+            list.add(entry);
+            save(key, list.size() - 1, entry);
+        }
+        recorded.incrementAndGet();
+        return res;
+    }
+
+    /** Method, URL without ignored query parameters, and a digest of the request body when there is one. */
+    private String key(HttpRequest req) {
+        String key = req.getMethod() + " " + stripIgnoredParams(req.getUri());
+        byte[] body;
+        try {
+            body = Contents.bytes(req.getContent());
+        } catch (Exception e) {
+            body = new byte[0];
+        }
+        return body.length == 0 ? key : key + " #" + sha1(body);
+    }
+
+    private String stripIgnoredParams(String uri) {
+        int q = uri.indexOf('?');
+        if (q < 0 || ignoredParams.isEmpty()) return uri;
+        int hash = uri.indexOf('#', q);
+        String query = hash < 0 ? uri.substring(q + 1) : uri.substring(q + 1, hash);
+        StringBuilder kept = new StringBuilder();
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            if (pair.isEmpty() || ignoredParams.contains(name)) continue;
+            kept.append(kept.length() == 0 ? "?" : "&").append(pair);
+        }
+        return uri.substring(0, q) + kept;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        long total = 0;
+        for (AtomicInteger count : misses.values()) total += count.get();
+        return total;
+    }
+
+    /** Per-run summary, listing every URL that was not in the archive. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Traffic archive (mode=").append(mode).append(strict ? ", strict" : "").append(") ").append(dir).append('\n');
+        if (mode == Mode.RECORD) {
+            sb.append("recorded exchanges=").append(recorded.get())
+                    .append(" distinct requests=").append(entries.size()).append('\n');
+        } else {
+            sb.append("replayed=").append(hits.get()).append(" misses=").append(missCount()).append('\n');
+            for (Map.Entry<String, AtomicInteger> e : new TreeMap<>(misses).entrySet()) {
+                sb.append(String.format("  %6d x miss  %s%n", e.getValue().get(), e.getKey()));
+            }
+        }
+        return sb.toString();
+    }
+
+    private void clear() {
+        if (!Files.isDirectory(dir)) return;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.{properties,body}")) {
+            for (Path file : files) Files.deleteIfExists(file);
+        } catch (IOException e) {
+            EventLog.warn("TrafficArchive", "Could not clear traffic archive " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isDirectory(dir)) {
+            EventLog.warn("TrafficArchive", "Traffic archive not found: " + dir + " (record it with network.archive=record)");
+            return;
+        }
+        Map<String, TreeMap<Integer, Entry>> loaded = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.properties")) {
+            for (Path file : files) {
+                Properties meta = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    meta.load(in);
+                }
+                String name = file.getFileName().toString();
+                Path bodyFile = dir.resolve(name.substring(0, name.length() - ".properties".length()) + ".body");
+                byte[] body = Files.isRegularFile(bodyFile) ? Files.readAllBytes(bodyFile) : new byte[0];
+                loaded.computeIfAbsent(meta.getProperty("key"), k -> new TreeMap<>())
+                        .put(Integer.parseInt(meta.getProperty("seq", "0")), Entry.from(meta, body));
+            }
+        } catch (IOException | RuntimeException e) {
+            EventLog.warn("TrafficArchive", "Could not load traffic archive " + dir + ": " + e.getMessage());
+        }
+        for (Map.Entry<String, TreeMap<Integer, Entry>> e : loaded.entrySet()) {
+            entries.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue().values())));
+        }
+        EventLog.note("TrafficArchive", "Traffic archive loaded: " + entries.size() + " requests from " + dir);
+    }
+
+    private void save(String key, int seq, Entry entry) {
+        String base = sha1(key.getBytes(StandardCharsets.UTF_8)) + "-" + seq;
+        Properties meta = entry.toProperties();
+        meta.setProperty("key", key);
+        meta.setProperty("seq", Integer.toString(seq));
+        try {
+            Files.createDirectories(dir);
+            Files.write(dir.resolve(base + ".body"), entry.body);
+            try (OutputStream out = Files.newOutputStream(dir.resolve(base + ".properties"))) {
+                meta.store(out, null);
+            }
+        } catch (IOException e) {
+            EventLog.warn("TrafficArchive", "Could not record " + entry.uri + ": " + e.getMessage());
+        }
+    }
+
+    private static List<String[]> headers(HttpResponse res) {
+        List<String[]> headers = new ArrayList<>();
+        for (String name : res.getHeaderNames()) {
+            if (TRANSFER_HEADERS.contains(name.toLowerCase())) continue;
+            for (String value : res.getHeaders(name)) {
+                headers.add(new String[] {name, value});
+            }
+        }
+        return headers;
+    }
+
+    private static String sha1(byte[] data) {
+        try {
+            return String.format("%040x", new BigInteger(1, MessageDigest.getInstance("SHA-1").digest(data)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** One recorded response. */
+    private static final class Entry {
+        final String method;
+        final String uri;
+        final int status;
+        final List<String[]> headers;
+        final byte[] body;
+
+        Entry(String method, String uri, int status, List<String[]> headers, byte[] body) {
+            this.method = method;
+            this.uri = uri;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        static Entry from(Properties meta, byte[] body) {
+            List<String[]> headers = new ArrayList<>();
+            for (int i = 0; meta.getProperty("header." + i + ".name") != null; i++) {
+                headers.add(new String[] {meta.getProperty("header." + i + ".name"), meta.getProperty("header." + i + ".value", "")});
+            }
+            return new Entry(meta.getProperty("method"), meta.getProperty("uri"),
+                    Integer.parseInt(meta.getProperty("status", "200")), headers, body);
+        }
+
+        Properties toProperties() {
+            Properties meta = new Properties();
+            meta.setProperty("method", method);
+            meta.setProperty("uri", uri);
+            meta.setProperty("status", Integer.toString(status));
+            for (int i = 0; i < headers.size(); i++) {
+                meta.setProperty("header." + i + ".name", headers.get(i)[0]);
+                meta.setProperty("header." + i + ".value", headers.get(i)[1]);
+            }
+            return meta;
+        }
+
+        HttpResponse toResponse() {
+            HttpResponse res = new HttpResponse().setStatus(status);
+            for (String[] header : headers) {
+                res.addHeader(header[0], header[1]);
+            }
+            return res.setContent(Contents.bytes(body));
+        }
+    }
+}
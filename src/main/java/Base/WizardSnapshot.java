@@ -0,0 +1,126 @@
+package Base;
+
+import ActionDriver.EventLog;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Browser-side wizard state captured after reaching a step: URL, cookies, localStorage and sessionStorage.
+ * Restoring it into another session deep-links that session straight to the captured step.
+ */
+public final class WizardSnapshot {
+    private static final String CAPTURE_STORAGE_JS =
+            "var out = {local: {}, session: {}};" +
+            "try { for (var i = 0; i < localStorage.length; i++) { var k = localStorage.key(i); out.local[k] = localStorage.getItem(k); } } catch (e) {}" +
+            "try { for (var j = 0; j < sessionStorage.length; j++) { var s = sessionStorage.key(j); out.session[s] = sessionStorage.getItem(s); } } catch (e) {}" +
+            "return out;";
+    private static final String RESTORE_STORAGE_JS =
+            "var d = arguments[0];" +
+            "Object.keys(d.local || {}).forEach(function (k) { localStorage.setItem(k, d.local[k]); });" +
+            "Object.keys(d.session || {}).forEach(function (k) { sessionStorage.setItem(k, d.session[k]); });";
+    private static final String STORAGE_VALUES_JS =
+            "var v = [];" +
+            "try { for (var i = 0; i < localStorage.length; i++) { v.push(localStorage.getItem(localStorage.key(i))); } } catch (e) {}" +
+            "try { for (var j = 0; j < sessionStorage.length; j++) { v.push(sessionStorage.getItem(sessionStorage.key(j))); } } catch (e) {}" +
+            "return v;";
+
+    private final String url;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    private WizardSnapshot(String url, Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.url = url;
+        this.cookies = Collections.unmodifiableSet(cookies);
+        this.localStorage = Collections.unmodifiableMap(localStorage);
+        this.sessionStorage = Collections.unmodifiableMap(sessionStorage);
+    }
+
+    /** Captures the state of the page the driver is currently on. */
+    @SuppressWarnings("unchecked")
+    public static WizardSnapshot capture(WebDriver driver) {
+        String url = driver.getCurrentUrl();
+        Set<Cookie> cookies = new HashSet<>(driver.manage().getCookies());
+        Map<String, String> local = new HashMap<>();
+        Map<String, String> session = new HashMap<>();
+        Object storage = ((JavascriptExecutor) driver).executeScript(CAPTURE_STORAGE_JS);
+        if (storage instanceof Map) {
+            copyStrings((Map<String, Object>) ((Map<String, Object>) storage).get("local"), local);
+            copyStrings((Map<String, Object>) ((Map<String, Object>) storage).get("session"), session);
+        }
+        return new WizardSnapshot(url, cookies, local, session);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    /**
+     * Loads the snapshot into the given session: a lightweight page on the same origin is opened so cookies
+     * and storage can be written, then the captured URL is loaded. Returns false if any step failed;
+     * callers still validate the landing page before trusting it.
+     */
+    public boolean restore(WebDriver driver) {
+        try {
+            URI uri = URI.create(url);
+            String origin = uri.getScheme() + "://" + uri.getAuthority();
+            driver.get(origin + "/robots.txt");
+            Date now = new Date();
+            for (Cookie cookie : cookies) {
+                if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) continue;
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (Exception ignored) {}
+            }
+            Map<String, Object> storage = new HashMap<>();
+            storage.put("local", localStorage);
+            storage.put("session", sessionStorage);
+            ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_JS, storage);
+            driver.get(url);
+            String current = driver.getCurrentUrl();
+            return current != null && current.contains(uri.getPath());
+        } catch (Exception e) {
+            EventLog.warn("WizardSnapshot", "Wizard snapshot restore failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * True when a localStorage or sessionStorage value of the current page contains one of the texts (ignoring
+     * case). Used after a restore to check that a wizard selection such as the region came back with the page.
+     */
+    public static boolean storageContains(WebDriver driver, String... texts) {
+        try {
+            Object values = ((JavascriptExecutor) driver).executeScript(STORAGE_VALUES_JS);
+            if (!(values instanceof List)) return false;
+            for (Object value : (List<?>) values) {
+                if (value == null) continue;
+                String stored = value.toString().toLowerCase(Locale.ROOT);
+                for (String text : texts) {
+                    if (stored.contains(text.toLowerCase(Locale.ROOT))) return true;
+                }
+            }
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void copyStrings(Map<String, Object> from, Map<String, String> to) {
+        if (from == null) return;
+        for (Map.Entry<String, Object> e : from.entrySet()) {
+            if (e.getValue() != null) to.put(e.getKey(), String.valueOf(e.getValue()));
+        }
+    }
+}
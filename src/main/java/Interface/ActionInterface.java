@@ -33,6 +33,11 @@ public interface ActionInterface {
     void pageLoadTimeOut(WebDriver driver, int timeOut);
     
     // Screenshot operations
+    /**
+     * Captures the browser and returns the path the screenshot is to be written to. Writing happens in the
+     * background, so the path is provisional: the file may not exist yet, or at all when the frame duplicates an
+     * earlier one or the capture is dropped.
+     */
     String screenShot(WebDriver driver, String fileName);
     
     // Utility operations
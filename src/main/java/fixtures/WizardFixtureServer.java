@@ -0,0 +1,102 @@
+package fixtures;
+
+import ActionDriver.EventLog;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP server for the travel-policy wizard fixture (src/main/resources/fixtures/wizard).
+ * Serves the landing page, destination, date and next-screen steps under the same paths and
+ * data-hrl-bo hooks as the live site, so the suite can run offline (site.mode=fixture).
+ */
+public final class WizardFixtureServer {
+    public static final String LANDING_PATH = "/travel-policy";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] page;
+    private final byte[] script;
+
+    private WizardFixtureServer(HttpServer server) throws IOException {
+        this.server = server;
+        this.page = resource("fixtures/wizard/index.html");
+        this.script = resource("fixtures/wizard/wizard.js");
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "wizard-fixture-http");
+            t.setDaemon(true);
+            return t;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /** Starts the server on 127.0.0.1; port 0 picks a free port. */
+    public static WizardFixtureServer start(int port) throws IOException {
+        WizardFixtureServer fixture = new WizardFixtureServer(HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0));
+        fixture.server.start();
+        EventLog.note("WizardFixtureServer", "Wizard fixture server started: " + fixture.landingUrl());
+        return fixture;
+    }
+
+    /** Base URL, e.g. http://127.0.0.1:51234 */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Equivalent of the live landing page URL. */
+    public String landingUrl() {
+        return baseUrl() + LANDING_PATH;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(LANDING_PATH) || path.startsWith(LANDING_PATH + "/")) {
+                send(exchange, 200, "text/html; charset=UTF-8", page);
+            } else if (path.equals("/fixtures/wizard.js")) {
+                send(exchange, 200, "application/javascript; charset=UTF-8", script);
+            } else if (path.equals("/robots.txt")) {
+                send(exchange, 200, "text/plain", "User-agent: *\nDisallow: /\n".getBytes("UTF-8"));
+            } else {
+                send(exchange, 404, "text/plain", "not found".getBytes("UTF-8"));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("Fixture resource not found on classpath: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) out.write(buf, 0, n);
+            return out.toByteArray();
+        }
+    }
+}
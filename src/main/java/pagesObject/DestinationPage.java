@@ -1,25 +1,36 @@
 package pagesObject;
 
+import ActionDriver.EventLog;
+import ActionDriver.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import org.openqa.selenium.Keys;
 import utils.DateUtils;
+import utils.StepTimings;
+import utils.TripDaysParser;
+import pagesObject.components.CalendarNavigator;
 import pagesObject.components.DateSection;
+import pagesObject.components.TripDaysProbe;
+import pagesObject.support.ElementCache;
+import pagesObject.support.HookIndex;
+import pagesObject.support.LocatorChain;
 
 /**
  * Page Object for the Travel Policy Destination step
  */
 public class DestinationPage {
     private final WebDriver driver;
+    private final WaitEngine waits;
+    private final ElementCache elements;
+    private final CalendarNavigator calendar;
     private static final String EXPECTED_PATH = "/travel-policy/wizard/destination";
     private static final String NEXT_PATH = "/travel-policy/wizard/date";
 
@@ -37,26 +48,28 @@ public class DestinationPage {
     private final By europeTile = By.xpath("//div[contains(text(),'אירופה')]");
     private final By australiaTile = By.xpath("//div[contains(text(),'אוסטרליה')]");
     private final By antarcticaTile = By.xpath("//div[contains(text(),'אנטארקט')]");
-    private final By nextButton = By.xpath("//button[@data-hrl-bo='wizard-next-button']");
+    private final By nextButton = LocatorChain.of("wizard next button",
+            HookIndex.hook("button", "wizard-next-button"), By.id("nextButton"));
     private final By nextButtonById = By.id("nextButton");
-    private final By antarcticaWarningYesBtn = By.xpath("//button[@data-hrl-bo='warningPopup-yes-button']");
-    private final By screenTitle = By.xpath("//h2[@data-hrl-bo='screen_title']");
-    private final By destinationGeneralError = By.xpath("//div[@data-hrl-bo='general_error']");
+    private final By antarcticaWarningYesBtn = HookIndex.hook("button", "warningPopup-yes-button");
+    private final By screenTitle = HookIndex.hook("h2", "screen_title");
+    private final By destinationGeneralError = HookIndex.hook("div", "general_error");
     // Date inputs (use union to support alternative attributes on the site)
-    private final By startDateInput = By.xpath("//input[@id='travel_start_date' or @name='start']");
-    private final By endDateInput = By.xpath("//input[@name='end' or @id='travel_end_date']");
+    private final By startDateInput = LocatorChain.of("start date input", By.id("travel_start_date"), By.name("start"));
+    private final By endDateInput = LocatorChain.of("end date input", By.id("travel_end_date"), By.name("end"));
     // Calendar selected day badges (site-specific classes may change). Try multiple strategies.
-    private final By selectedDayBadges = By.xpath("//span[contains(@class,'jss219') and normalize-space(text())!='']");
-    private final By muiSelectedBadges = By.xpath("//*[contains(@class,'Mui-selected') and normalize-space(text())!='']");
-    private final By ariaSelectedBadges = By.cssSelector("[aria-selected='true']");
-    private final By genericSelectedBadges = By.xpath("//*[contains(@class,'selected') and normalize-space(text())!='']");
-    // Summary text showing total days (Hebrew: "סה\"כ: NN ימים"). We'll search broadly for elements containing "ימים"
-    private final By daysSummaryCandidates = By.xpath("//*[contains(normalize-space(text()), 'ימים')]");
+    private final By selectedDayBadges = LocatorChain.of("selected day badges",
+            By.xpath("//span[contains(@class,'jss219') and normalize-space(text())!='']"),
+            By.xpath("//*[contains(@class,'Mui-selected') and normalize-space(text())!='']"),
+            By.cssSelector("[aria-selected='true']"),
+            By.xpath("//*[contains(@class,'selected') and normalize-space(text())!='']"));
     // Date picker next-month arrow (per user-provided locator)
-    private final By nextMonthArrow = By.xpath("(//button[@data-hrl-bo='arrow-forward' and @aria-label='לעבור לחודש הבא'])[2]");
 
     public DestinationPage(WebDriver driver) {
         this.driver = driver;
+        this.waits = WaitEngine.of(driver);
+        this.elements = new ElementCache(driver);
+        this.calendar = new CalendarNavigator(driver);
     }
 
     public boolean isAt() {
@@ -70,7 +83,8 @@ public class DestinationPage {
     }
 
     private boolean click(By locator) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
+        long start = System.nanoTime();
+        Wait<WebDriver> wait = waits.forSeconds(WAIT_MEDIUM_SEC);
         WebElement el = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", el);
         try {
@@ -85,14 +99,14 @@ public class DestinationPage {
         }
         // After clicking region, wait until Next button becomes enabled (selection registered)
         boolean nextEnabled = wait.until(d -> isNextEnabled());
-        System.out.println("Next button enabled after region click: " + nextEnabled);
+        StepTimings.record(StepTimings.Step.REGION_TO_NEXT_ENABLED, start);
+        EventLog.note("DestinationPage", "Next button enabled after region click: " + nextEnabled);
         return nextEnabled;
     }
 
     /** Generic region click to reduce duplication (clicks tile that contains given text). */
     public boolean clickRegionByPartialText(String partialTextHebrew) {
-        By dynamic = By.xpath("//div[contains(text(), '" + partialTextHebrew + "')]");
-        return click(dynamic);
+        return click(By.xpath(regionTileXpath(partialTextHebrew)));
     }
 
     private boolean isNextEnabled() {
@@ -115,7 +129,7 @@ public class DestinationPage {
      */
     public String clickNextWithoutRegionAndGetError() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
+            Wait<WebDriver> wait = waits.forSeconds(WAIT_SHORT_SEC);
             WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(nextButton));
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", btn);
             try {
@@ -124,7 +138,7 @@ public class DestinationPage {
             } catch (Exception e) {
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
             }
-            WebElement error = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
+            WebElement error = waits.forSeconds(WAIT_SHORT_SEC)
                     .until(ExpectedConditions.visibilityOfElementLocated(destinationGeneralError));
             return error.getText();
         } catch (Exception e) {
@@ -134,102 +148,29 @@ public class DestinationPage {
 
     /** Reads the total days displayed on the Next button (id="nextButton"). */
     public int getTripDaysFromNextButton() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
-        WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
-        String text = btn.getText();
-        // Extract first integer found
-        java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d+)").matcher(text);
-        if (m.find()) {
-            try { return Integer.parseInt(m.group(1)); } catch (NumberFormatException ignored) {}
-        }
-        return -1;
+        WebElement btn = elements.visible(nextButtonById, WAIT_SHORT_SEC);
+        return TripDaysParser.parse(btn.getText());
     }
 
     /**
      * Reads the total days from either the Next button or the nearby summary text (e.g., "סה"+"כ: 33 ימים").
+     * All candidate texts are collected in one script call (see {@link TripDaysProbe}).
      */
     public int getTripDaysFromUI() {
-        int fromButton = -1;
-        try {
-            // Ensure the area is visible
-            WebElement btn = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, " + SCROLL_NUDGE_PX + ");", btn);
-            fromButton = getTripDaysFromNextButton();
-            if (fromButton >= 0) return fromButton;
-            // Try reading container text around the button
+        TripDaysProbe.Reading reading = TripDaysProbe.read(driver, SCROLL_NUDGE_PX);
+        if (reading != null && !reading.buttonFound()) {
+            // Button not rendered yet: wait for it once, then probe again
             try {
-                WebElement container = btn.findElement(By.xpath("ancestor::*[self::section or self::div][1]"));
-                String cText = container.getText();
-                if (cText != null && !cText.trim().isEmpty()) {
-                    java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d+)").matcher(cText);
-                    if (m.find()) {
-                        return Integer.parseInt(m.group(1));
-                    }
-                }
-                // innerText/textContent fallbacks
-                String inner = container.getAttribute("innerText");
-                if (inner != null) {
-                    java.util.regex.Matcher m2 = java.util.regex.Pattern.compile("(\\d+)").matcher(inner);
-                    if (m2.find()) return Integer.parseInt(m2.group(1));
-                }
-                String txt = container.getAttribute("textContent");
-                if (txt != null) {
-                    java.util.regex.Matcher m3 = java.util.regex.Pattern.compile("(\\d+)").matcher(txt);
-                    if (m3.find()) return Integer.parseInt(m3.group(1));
-                }
+                elements.visible(nextButtonById, WAIT_SHORT_SEC);
+                reading = TripDaysProbe.read(driver, SCROLL_NUDGE_PX);
             } catch (Exception ignored) {}
-        } catch (Exception ignored) {}
-        if (fromButton >= 0) return fromButton;
-        // Try summary labels that contain the word "ימים"
-        java.util.List<WebElement> nodes = driver.findElements(daysSummaryCandidates);
-        int best = -1;
-        if (nodes != null) {
-            for (WebElement n : nodes) {
-                try {
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", n);
-                    String t = n.getText();
-                    if (t == null || t.trim().isEmpty()) continue;
-                    java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d+)").matcher(t);
-                    if (m.find()) {
-                        int val = Integer.parseInt(m.group(1));
-                        if (val > best) best = val;
-                    }
-                    if (best < 0) {
-                        String inner = n.getAttribute("innerText");
-                        if (inner != null) {
-                            java.util.regex.Matcher mi = java.util.regex.Pattern.compile("(\\d+)").matcher(inner);
-                            if (mi.find()) best = Math.max(best, Integer.parseInt(mi.group(1)));
-                        }
-                        String txt = n.getAttribute("textContent");
-                        if (txt != null) {
-                            java.util.regex.Matcher mt = java.util.regex.Pattern.compile("(\\d+)").matcher(txt);
-                            if (mt.find()) best = Math.max(best, Integer.parseInt(mt.group(1)));
-                        }
-                    }
-                } catch (Exception ignored) { }
-            }
         }
-        return best;
+        return reading == null ? -1 : reading.days();
     }
 
-    /** Waits until the Next button shows a numeric days count, and returns it. */
+    /** Waits until the Next button shows a numeric days count, and returns it (event-driven, see {@link TripDaysProbe}). */
     public int waitForTripDaysOnNext(int timeoutSeconds) {
-        long end = System.currentTimeMillis() + Math.max(1, timeoutSeconds) * 1000L;
-        int val = -1;
-        while (System.currentTimeMillis() < end) {
-            try {
-                // Nudge the viewport near the button each iteration
-                try {
-                    WebElement btn = driver.findElement(nextButtonById);
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, " + SCROLL_NUDGE_PX + ");", btn);
-                } catch (Exception ignored) {}
-                val = getTripDaysFromUI();
-                if (val >= 0) return val;
-            } catch (Exception ignored) { }
-            try { Thread.sleep(300); } catch (InterruptedException ignored) {}
-        }
-        return val;
+        return TripDaysProbe.waitForDays(driver, SCROLL_NUDGE_PX, timeoutSeconds, this::getTripDaysFromUI);
     }
 
     /**
@@ -238,10 +179,9 @@ public class DestinationPage {
      * Returns true only if both days are present among the badges.
      */
     public boolean verifyCalendarDaysMatchInputs() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        WebElement startInput = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
-        WebElement endInput = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
+        WebElement startInput = elements.visible(startDateInput, 20);
+        WebElement endInput = elements.visible(endDateInput, 20);
 
         String startVal = startInput.getAttribute("value");
         String endVal = endInput.getAttribute("value");
@@ -259,25 +199,21 @@ public class DestinationPage {
         // Ensure calendar is visible by focusing and scrolling to the inputs (some UIs render selections only while open)
         try { startInput.click(); } catch (Exception ignored) {}
         try {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 200);", startInput);
+            ElementCache.withFresh(startInput, el -> ((JavascriptExecutor) driver)
+                    .executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 200);", el));
         } catch (Exception ignored) {}
-        // Try to gather using multiple strategies, in order
-        java.util.List<WebElement> badges = driver.findElements(selectedDayBadges);
-        if (badges == null || badges.isEmpty()) badges = driver.findElements(muiSelectedBadges);
-        if (badges == null || badges.isEmpty()) badges = driver.findElements(ariaSelectedBadges);
-        if (badges == null || badges.isEmpty()) badges = driver.findElements(genericSelectedBadges);
+        // Try to gather using multiple strategies, historically best first
+        java.util.List<WebElement> badges = waits.findAllNow(selectedDayBadges);
         if (badges == null || badges.isEmpty()) {
             try { endInput.click(); } catch (Exception ignored) {}
             try {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 200);", endInput);
+                ElementCache.withFresh(endInput, el -> ((JavascriptExecutor) driver)
+                        .executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 200);", el));
             } catch (Exception ignored) {}
-            badges = driver.findElements(selectedDayBadges);
-            if (badges == null || badges.isEmpty()) badges = driver.findElements(muiSelectedBadges);
-            if (badges == null || badges.isEmpty()) badges = driver.findElements(ariaSelectedBadges);
-            if (badges == null || badges.isEmpty()) badges = driver.findElements(genericSelectedBadges);
+            badges = waits.findAllNow(selectedDayBadges);
         }
         if (badges == null || badges.isEmpty()) {
-            System.out.println("No calendar badges found with available locators (jss219/Mui-selected/aria-selected/generic)");
+            EventLog.note("DestinationPage", "No calendar badges found with available locators (jss219/Mui-selected/aria-selected/generic)");
             return false;
         }
         java.util.Set<String> texts = new java.util.HashSet<>();
@@ -299,7 +235,7 @@ public class DestinationPage {
 
         boolean hasStart = numericTexts.contains(Integer.toString(startDay));
         boolean hasEnd = numericTexts.contains(Integer.toString(endDay));
-        System.out.println("Calendar badges (all): " + texts + "; numeric-only: " + numericTexts + ", expected start=" + startDay + ", end=" + endDay);
+        EventLog.note("DestinationPage", "Calendar badges (all): " + texts + "; numeric-only: " + numericTexts + ", expected start=" + startDay + ", end=" + endDay);
         return hasStart && hasEnd;
     }
 
@@ -309,17 +245,16 @@ public class DestinationPage {
      * or add buffer days; provide a tolerance to allow small differences.
      */
     public boolean verifyTripDaysOnNextMatchesInputs(int toleranceDays) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
         try {
-            WebElement startInput = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
-            WebElement endInput = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
+            WebElement startInput = elements.visible(startDateInput, WAIT_SHORT_SEC);
+            WebElement endInput = elements.visible(endDateInput, WAIT_SHORT_SEC);
             String startVal = startInput.getAttribute("value");
             String endVal = endInput.getAttribute("value");
             LocalDate start = DateUtils.parseUi(startVal);
             LocalDate end = DateUtils.parseUi(endVal);
             long inclusive = DateUtils.inclusiveDays(start, end); // Site counts both start and end days
             int shown = getTripDaysFromUI();
-            System.out.println("Computed inclusive days=" + inclusive + ", UI shows=" + shown);
+            EventLog.note("DestinationPage", "Computed inclusive days=" + inclusive + ", UI shows=" + shown);
             return shown >= 0 && Math.abs(shown - inclusive) <= Math.max(0, toleranceDays);
         } catch (Exception e) {
             return false;
@@ -336,7 +271,7 @@ public class DestinationPage {
     public boolean clickAntarctica() { return click(antarcticaTile); }
 
     public boolean acknowledgeAntarcticaWarning() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        Wait<WebDriver> wait = waits.forSeconds(20);
         try {
             WebElement yes = wait.until(ExpectedConditions.visibilityOfElementLocated(antarcticaWarningYesBtn));
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", yes);
@@ -354,7 +289,8 @@ public class DestinationPage {
 
 
     public boolean clickNextAndWaitForDate() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_LONG_SEC));
+        long start = System.nanoTime();
+        Wait<WebDriver> wait = waits.forSeconds(WAIT_LONG_SEC);
         WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(nextButton));
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", btn);
         // Ensure the Next button is enabled
@@ -367,31 +303,42 @@ public class DestinationPage {
             } catch (Exception e) {
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
             }
+            elements.stepChanged();
             try {
-                return new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
+                boolean moved = waits.forSeconds(WAIT_SHORT_SEC)
                         .until(ExpectedConditions.urlContains(NEXT_PATH));
+                StepTimings.record(StepTimings.Step.DESTINATION_TO_DATE, start);
+                return moved;
             } catch (Exception retry) {
-                System.out.println("URL did not change after click attempt " + (i+1) + ", retrying...");
+                EventLog.note("DestinationPage", "URL did not change after click attempt " + (i+1) + ", retrying...");
             }
         }
         // Final wait for URL change with overall timeout
-        return wait.until(ExpectedConditions.urlContains(NEXT_PATH));
+        boolean moved = wait.until(ExpectedConditions.urlContains(NEXT_PATH));
+        StepTimings.record(StepTimings.Step.DESTINATION_TO_DATE, start);
+        return moved;
     }
 
     public boolean clickNextOnDateAndWaitForScreenTitle() {
+        long start = System.nanoTime();
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
-            WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 150);", btn);
-            try {
-                wait.until(ExpectedConditions.elementToBeClickable(btn));
-                new Actions(driver).moveToElement(btn).click().build().perform();
-            } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
-            }
-            WebDriverWait titleWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            Wait<WebDriver> wait = waits.forSeconds(30);
+            WebElement btn = elements.visible(nextButtonById, 30);
+            ElementCache.withFresh(btn, el -> {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'}); window.scrollBy(0, 150);", el);
+                try {
+                    wait.until(ExpectedConditions.elementToBeClickable(el));
+                    new Actions(driver).moveToElement(el).click().build().perform();
+                } catch (Exception e) {
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+                }
+            });
+            elements.stepChanged();
+            Wait<WebDriver> titleWait = waits.forSeconds(20);
             WebElement title = titleWait.until(ExpectedConditions.visibilityOfElementLocated(screenTitle));
-            return title != null && title.isDisplayed();
+            boolean shown = title != null && title.isDisplayed();
+            if (shown) StepTimings.record(StepTimings.Step.DATE_TO_NEXT_SCREEN, start);
+            return shown;
         } catch (Exception e) {
             return false;
         }
@@ -412,37 +359,19 @@ public class DestinationPage {
         }
     }
 
-    /** Clicks a specific calendar day by ISO date (yyyy-MM-dd) using data-hrl-bo attribute. */
+    /** Clicks a specific calendar day by ISO date (yyyy-MM-dd), moving the picker straight to its month. */
     public boolean clickCalendarDayIso(String isoDate) {
         try {
-            By day = By.xpath("//button[@data-hrl-bo='" + isoDate + "']");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
-            // Try up to 6 months ahead by clicking next-month arrow until the day becomes visible
-            for (int i = 0; i < 6; i++) {
-                try {
-                    WebElement el = wait.until(ExpectedConditions.visibilityOfElementLocated(day));
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", el);
-                    try {
-                        wait.until(ExpectedConditions.elementToBeClickable(el));
-                        new Actions(driver).moveToElement(el).click().build().perform();
-                    } catch (Exception e) {
-                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
-                    }
-                    return true;
-                } catch (Exception notVisible) {
-                    // Move to next month and retry
-                    try {
-                        WebElement arrow = wait.until(ExpectedConditions.elementToBeClickable(nextMonthArrow));
-                        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", arrow);
-                        arrow.click();
-                        try { Thread.sleep(150); } catch (InterruptedException ignored) {}
-                    } catch (Exception arrowFail) {
-                        // Cannot advance months; break
-                        break;
-                    }
-                }
+            WebElement el = calendar.showDay(LocalDate.parse(isoDate));
+            if (el == null) return false;
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", el);
+            try {
+                waits.forSeconds(WAIT_MEDIUM_SEC).until(ExpectedConditions.elementToBeClickable(el));
+                new Actions(driver).moveToElement(el).click().build().perform();
+            } catch (Exception e) {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
             }
-            return false;
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -456,22 +385,20 @@ public class DestinationPage {
         String endIso = end.toString();
         // Focus inputs to ensure calendar is open/visible
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
-            WebElement startInputEl = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
+            WebElement startInputEl = elements.visible(startDateInput, WAIT_SHORT_SEC);
             startInputEl.click();
         } catch (Exception ignored) {}
         boolean s = clickCalendarDayIso(startIso);
         boolean e = clickCalendarDayIso(endIso);
         // Verify inputs updated
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
-            WebElement startInputEl = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
-            WebElement endInputEl = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
+            WebElement startInputEl = elements.visible(startDateInput, WAIT_SHORT_SEC);
+            WebElement endInputEl = elements.visible(endDateInput, WAIT_SHORT_SEC);
             String sv = startInputEl.getAttribute("value");
             String ev = endInputEl.getAttribute("value");
             String expectedS = DateUtils.formatUi(start);
             String expectedE = DateUtils.formatUi(end);
-            System.out.println("Picker-selected dates -> start: " + sv + ", end: " + ev);
+            EventLog.note("DestinationPage", "Picker-selected dates -> start: " + sv + ", end: " + ev);
             return s && e && expectedS.equals(sv) && expectedE.equals(ev);
         } catch (Exception ex) {
             return false;
@@ -481,15 +408,18 @@ public class DestinationPage {
     /** Clicks Next on the Date step without waiting for the next component. */
     public boolean clickNextOnDate() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
-            WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", btn);
-            try {
-                wait.until(ExpectedConditions.elementToBeClickable(btn));
-                new Actions(driver).moveToElement(btn).click().build().perform();
-            } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
-            }
+            Wait<WebDriver> wait = waits.forSeconds(WAIT_SHORT_SEC);
+            WebElement btn = elements.visible(nextButtonById, WAIT_SHORT_SEC);
+            ElementCache.withFresh(btn, el -> {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", el);
+                try {
+                    wait.until(ExpectedConditions.elementToBeClickable(el));
+                    new Actions(driver).moveToElement(el).click().build().perform();
+                } catch (Exception e) {
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+                }
+            });
+            elements.stepChanged();
             return true;
         } catch (Exception e) {
             return false;
@@ -513,25 +443,26 @@ public class DestinationPage {
      * Dates are set in dd/MM/yyyy format to match the UI placeholder.
      */
     public boolean selectDatesRelative(int offsetDaysFromToday, int tripLengthDays) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
         LocalDate start = DateUtils.todayPlusDays(Math.max(0, offsetDaysFromToday));
         LocalDate end = start.plusDays(Math.max(1, tripLengthDays));
 
         String startStr = DateUtils.formatUi(start);
         String endStr = DateUtils.formatUi(end);
 
-        WebElement startInput = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", startInput);
+        WebElement startInput = elements.visible(startDateInput, WAIT_MEDIUM_SEC);
+        ElementCache.withFresh(startInput, el -> ((JavascriptExecutor) driver)
+                .executeScript("arguments[0].scrollIntoView({block: 'center'});", el));
         setInputValue(startInput, startStr);
 
-        WebElement endInput = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", endInput);
+        WebElement endInput = elements.visible(endDateInput, WAIT_MEDIUM_SEC);
+        ElementCache.withFresh(endInput, el -> ((JavascriptExecutor) driver)
+                .executeScript("arguments[0].scrollIntoView({block: 'center'});", el));
         setInputValue(endInput, endStr);
 
         // Basic validation: ensure the inputs now reflect the desired values
         String startValue = startInput.getAttribute("value");
         String endValue = endInput.getAttribute("value");
-        System.out.println("Selected dates -> start: " + startValue + ", end: " + endValue);
+        EventLog.note("DestinationPage", "Selected dates -> start: " + startValue + ", end: " + endValue);
         return startStr.equals(startValue) && endStr.equals(endValue);
     }
 
@@ -542,21 +473,27 @@ public class DestinationPage {
 
     /** Set specific dates in dd/MM/yyyy format. */
     public boolean selectDatesAbsolute(String startStr, String endStr) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
-        WebElement startInput = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", startInput);
+        WebElement startInput = elements.visible(startDateInput, WAIT_MEDIUM_SEC);
+        ElementCache.withFresh(startInput, el -> ((JavascriptExecutor) driver)
+                .executeScript("arguments[0].scrollIntoView({block: 'center'});", el));
         setInputValue(startInput, startStr);
 
-        WebElement endInput = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", endInput);
+        WebElement endInput = elements.visible(endDateInput, WAIT_MEDIUM_SEC);
+        ElementCache.withFresh(endInput, el -> ((JavascriptExecutor) driver)
+                .executeScript("arguments[0].scrollIntoView({block: 'center'});", el));
         setInputValue(endInput, endStr);
 
         String startValue = startInput.getAttribute("value");
         String endValue = endInput.getAttribute("value");
-        System.out.println("Selected dates -> start: " + startValue + ", end: " + endValue);
+        EventLog.note("DestinationPage", "Selected dates -> start: " + startValue + ", end: " + endValue);
         return startStr.equals(startValue) && endStr.equals(endValue);
     }
 
+    /** XPath of the region tile whose text contains the given (Hebrew) fragment. */
+    public static String regionTileXpath(String partialTextHebrew) {
+        return "//div[contains(text(), '" + partialTextHebrew + "')]";
+    }
+
     private void setInputValue(WebElement input, String value) {
         try {
             // Try standard clear+send
@@ -567,14 +504,16 @@ public class DestinationPage {
         } catch (Exception ignored) {
             // Fallback: remove readonly and set via JS, then dispatch events
             JavascriptExecutor js = (JavascriptExecutor) driver;
-            try { js.executeScript("arguments[0].removeAttribute('readonly');", input); } catch (Exception e) { /* ignore */ }
-            js.executeScript(
-                    "arguments[0].value=arguments[1];" +
-                    "arguments[0].dispatchEvent(new Event('input',{bubbles:true}));" +
-                    "arguments[0].dispatchEvent(new Event('change',{bubbles:true}));" +
-                    "arguments[0].dispatchEvent(new Event('blur',{bubbles:true}));",
-                    input, value
-            );
+            ElementCache.withFresh(input, el -> {
+                try { js.executeScript("arguments[0].removeAttribute('readonly');", el); } catch (Exception e) { /* ignore */ }
+                js.executeScript(
+                        "arguments[0].value=arguments[1];" +
+                        "arguments[0].dispatchEvent(new Event('input',{bubbles:true}));" +
+                        "arguments[0].dispatchEvent(new Event('change',{bubbles:true}));" +
+                        "arguments[0].dispatchEvent(new Event('blur',{bubbles:true}));",
+                        el, value
+                );
+            });
         }
     }
 }
@@ -1,42 +1,55 @@
 package pagesObject;
 
 import ActionDriver.Action;
+import ActionDriver.WaitEngine;
 import org.openqa.selenium.By;
+import pagesObject.support.HookIndex;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
+import utils.StepTimings;
 
-import java.time.Duration;
 
 /**
  * Page Object for the Travel Policy landing page
  */
 public class TravelPolicyPage {
     private final WebDriver driver;
+    private final WaitEngine waits;
     private final Action action;
+    private final String pageUrl;
 
-    private static final String PAGE_URL = "https://digital.harel-group.co.il/travel-policy";
+    /** Live landing page; BaseClass may point the suite elsewhere (site.url / site.mode=fixture). */
+    public static final String PAGE_URL = "https://digital.harel-group.co.il/travel-policy";
 
-    private final By purchaseForNewCustomerBtn = By.xpath("//button[@data-hrl-bo='purchase-for-new-customer']");
+    private final By purchaseForNewCustomerBtn = HookIndex.hook("button", "purchase-for-new-customer");
 
     public TravelPolicyPage(WebDriver driver) {
+        this(driver, PAGE_URL);
+    }
+
+    public TravelPolicyPage(WebDriver driver, String pageUrl) {
         this.driver = driver;
         this.action = new Action();
+        this.waits = WaitEngine.of(driver);
+        this.pageUrl = pageUrl;
     }
 
     public TravelPolicyPage open() {
-        driver.get(PAGE_URL);
+        driver.get(pageUrl);
         return this;
     }
 
     public DestinationPage clickPurchaseForNewCustomer() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        long start = System.nanoTime();
+        Wait<WebDriver> wait = waits.forSeconds(15);
         wait.until(ExpectedConditions.elementToBeClickable(purchaseForNewCustomerBtn));
         WebElement button = driver.findElement(purchaseForNewCustomerBtn);
         action.click(driver, button);
         // Optionally wait for navigation to destination path
         wait.until(ExpectedConditions.urlContains("/travel-policy/wizard/destination"));
+        StepTimings.record(StepTimings.Step.LANDING_TO_DESTINATION, start);
         return new DestinationPage(driver);
     }
 }
@@ -0,0 +1,164 @@
+package pagesObject.components;
+
+import ActionDriver.WaitEngine;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pagesObject.support.HookIndex;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves the date picker straight to the month of a target day: reads the displayed month(s), computes the
+ * month delta and clicks the forward or back arrow exactly that many times, confirming every step from the
+ * month header. Works across years and backwards. Months are read from the headers' data-month (yyyy-MM)
+ * or, where the headers carry none, from the ISO data-hrl-bo values of the visible day buttons.
+ */
+public final class CalendarNavigator {
+    /** Arrows and days are buttons; other elements may carry the same data-hrl-bo values. */
+    private static final String BUTTON = "button";
+    private static final String FORWARD = "arrow-forward";
+    private static final String BACK = "arrow-back";
+    private static final String FORWARD_LABEL = "לעבור לחודש הבא";
+
+    /** Longest jump attempted; the picker does not offer dates further out. */
+    private static final int MAX_STEPS = 24;
+    private static final int STEP_TIMEOUT_SEC = 10;
+
+    /** Displayed months (yyyy-MM) in document order. */
+    private static final String MONTHS_JS =
+            "function shown(el) { return el.getClientRects().length > 0; }" +
+            "var out = [];" +
+            "var heads = document.querySelectorAll('[data-month]');" +
+            "for (var i = 0; i < heads.length; i++) {" +
+            "  if (shown(heads[i])) out.push(heads[i].getAttribute('data-month'));" +
+            "}" +
+            "if (out.length) return out;" +
+            "var days = document.querySelectorAll('button[data-hrl-bo]');" +
+            "for (var j = 0; j < days.length; j++) {" +
+            "  var v = days[j].getAttribute('data-hrl-bo');" +
+            "  if (/^\\d{4}-\\d{2}-\\d{2}$/.test(v) && shown(days[j]) && out.indexOf(v.slice(0, 7)) < 0) out.push(v.slice(0, 7));" +
+            "}" +
+            "return out;";
+
+    private final WebDriver driver;
+    private final WaitEngine waits;
+
+    public CalendarNavigator(WebDriver driver) {
+        this.driver = driver;
+        this.waits = WaitEngine.of(driver);
+    }
+
+    /** Months currently shown by the picker, earliest first (empty when it is closed). */
+    public List<YearMonth> displayedMonths() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(MONTHS_JS);
+        List<YearMonth> months = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Object value : (List<?>) raw) {
+                try {
+                    months.add(YearMonth.parse(String.valueOf(value)));
+                } catch (DateTimeParseException ignored) {}
+            }
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    /**
+     * Brings the day's month into view and returns the visible day button, or null when the picker
+     * is not open or cannot reach that month.
+     */
+    public WebElement showDay(LocalDate day) {
+        String key = day.toString();
+        List<YearMonth> months = currentMonths();
+        if (months.isEmpty()) return null;
+        long delta = monthDelta(months, YearMonth.from(day));
+        if (Math.abs(delta) > MAX_STEPS) return null;
+        YearMonth first = months.get(0);
+        for (long step = 1; step <= Math.abs(delta); step++) {
+            List<WebElement> arrows = HookIndex.of(driver).all(BUTTON, delta > 0 ? FORWARD : BACK);
+            WebElement arrow = delta > 0 ? forwardArrow(arrows) : backArrow(arrows);
+            if (arrow == null) return null;
+            click(arrow);
+            if (!waitForFirstMonth(first.plusMonths(delta > 0 ? step : -step))) return null;
+        }
+        return firstDisplayed(HookIndex.of(driver).all(BUTTON, key));
+    }
+
+    /** Number of arrow clicks needed to show the month, negative for backwards; 0 when it is already shown. */
+    public static long monthDelta(List<YearMonth> displayed, YearMonth target) {
+        if (displayed.isEmpty() || displayed.contains(target)) return 0;
+        YearMonth first = displayed.get(0);
+        YearMonth last = displayed.get(displayed.size() - 1);
+        if (target.isAfter(last)) return ChronoUnit.MONTHS.between(last, target);
+        return -ChronoUnit.MONTHS.between(target, first);
+    }
+
+    private List<YearMonth> currentMonths() {
+        List<YearMonth> months = displayedMonths();
+        if (!months.isEmpty()) return months;
+        try {
+            return waits.forSeconds(STEP_TIMEOUT_SEC).until(d -> {
+                List<YearMonth> shown = displayedMonths();
+                return shown.isEmpty() ? null : shown;
+            });
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /** Confirms a step from the month header; false if the picker did not move (e.g. a disabled arrow). */
+    private boolean waitForFirstMonth(YearMonth expectedFirst) {
+        try {
+            return waits.forSeconds(STEP_TIMEOUT_SEC).until(d -> {
+                List<YearMonth> shown = displayedMonths();
+                return !shown.isEmpty() && shown.get(0).equals(expectedFirst);
+            });
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Actions click once the arrow is clickable, falling back to a script click (as DateSection.click). */
+    private void click(WebElement el) {
+        try {
+            waits.forSeconds(STEP_TIMEOUT_SEC).until(ExpectedConditions.elementToBeClickable(el));
+            new Actions(driver).moveToElement(el).click().build().perform();
+        } catch (Exception e) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+        }
+    }
+
+    /** The second labelled forward arrow, as the former nextMonthArrow XPath picked it. */
+    private static WebElement forwardArrow(List<WebElement> arrows) {
+        List<WebElement> labelled = new ArrayList<>();
+        for (WebElement arrow : arrows) {
+            if (FORWARD_LABEL.equals(arrow.getAttribute("aria-label"))) labelled.add(arrow);
+        }
+        return pick(labelled.isEmpty() ? arrows : labelled);
+    }
+
+    private static WebElement backArrow(List<WebElement> arrows) {
+        return pick(arrows);
+    }
+
+    private static WebElement pick(List<WebElement> arrows) {
+        if (arrows.size() > 1 && arrows.get(1).isDisplayed()) return arrows.get(1);
+        return firstDisplayed(arrows);
+    }
+
+    private static WebElement firstDisplayed(List<WebElement> elements) {
+        for (WebElement element : elements) {
+            if (element.isDisplayed()) return element;
+        }
+        return null;
+    }
+}
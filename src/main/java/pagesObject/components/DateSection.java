@@ -1,12 +1,16 @@
 package pagesObject.components;
 
+import ActionDriver.WaitEngine;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
+import pagesObject.support.ElementCache;
+import pagesObject.support.HookIndex;
+import pagesObject.support.LocatorChain;
 import utils.DateUtils;
+import utils.StepTimings;
 
-import java.time.Duration;
 import java.time.LocalDate;
 
 /**
@@ -16,6 +20,10 @@ import java.time.LocalDate;
  */
 public class DateSection {
     private final WebDriver driver;
+    private final WaitEngine waits;
+    private final ElementCache elements;
+    private final CalendarNavigator calendar;
+    private static final String EXPECTED_PATH = "/travel-policy/wizard/date";
 
     // Timeouts and scroll offsets
     private static final int WAIT_SHORT_SEC = 10;
@@ -23,37 +31,47 @@ public class DateSection {
     private static final int SCROLL_NUDGE_PX = 150;
 
     // Locators
-    private final By startDateInput = By.xpath("//input[@id='travel_start_date' or @name='start']");
-    private final By endDateInput = By.xpath("//input[@name='end' or @id='travel_end_date']");
+    private final By startDateInput = LocatorChain.of("start date input", By.id("travel_start_date"), By.name("start"));
+    private final By endDateInput = LocatorChain.of("end date input", By.id("travel_end_date"), By.name("end"));
     private final By nextButtonById = By.id("nextButton");
-    private final By daysSummaryCandidates = By.xpath("//*[contains(normalize-space(text()), 'ימים')]");
-    private final By screenTitle = By.xpath("//h2[@data-hrl-bo='screen_title']");
-    private final By nextMonthArrow = By.xpath("(//button[@data-hrl-bo='arrow-forward' and @aria-label='לעבור לחודש הבא'])[2]");
-    private final By generalError = By.xpath("//div[@data-hrl-bo='general_error']");
+    private final By screenTitle = HookIndex.hook("h2", "screen_title");
+    private final By generalError = HookIndex.hook("div", "general_error");
 
     public DateSection(WebDriver driver) {
         this.driver = driver;
+        this.waits = WaitEngine.of(driver);
+        this.elements = new ElementCache(driver);
+        this.calendar = new CalendarNavigator(driver);
+    }
+
+    /** True when on the Date step and the start date input is visible. */
+    public boolean isAt() {
+        try {
+            String url = driver.getCurrentUrl();
+            if (url == null || !url.contains(EXPECTED_PATH)) return false;
+            elements.visible(startDateInput, WAIT_SHORT_SEC);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     public String getStartValue() {
-        WebElement el = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                .until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
+        WebElement el = elements.visible(startDateInput, WAIT_SHORT_SEC);
         return el.getAttribute("value");
     }
 
     public String getEndValue() {
-        WebElement el = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                .until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
+        WebElement el = elements.visible(endDateInput, WAIT_SHORT_SEC);
         return el.getAttribute("value");
     }
 
     public boolean selectDatesAbsolute(String startStr, String endStr) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
-        WebElement startInputEl = wait.until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
+        WebElement startInputEl = elements.visible(startDateInput, WAIT_MEDIUM_SEC);
         scrollIntoView(startInputEl);
         setInputValue(startInputEl, startStr);
 
-        WebElement endInputEl = wait.until(ExpectedConditions.visibilityOfElementLocated(endDateInput));
+        WebElement endInputEl = elements.visible(endDateInput, WAIT_MEDIUM_SEC);
         scrollIntoView(endInputEl);
         setInputValue(endInputEl, endStr);
 
@@ -73,8 +91,7 @@ public class DateSection {
         String endIso = end.toString();
         // Ensure calendar is open
         try {
-            WebElement startInputEl = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(startDateInput));
+            WebElement startInputEl = elements.visible(startDateInput, WAIT_SHORT_SEC);
             startInputEl.click();
         } catch (Exception ignored) {}
         boolean s = clickCalendarDayIso(startIso);
@@ -84,106 +101,34 @@ public class DateSection {
         return s && e && DateUtils.formatUi(start).equals(sv) && DateUtils.formatUi(end).equals(ev);
     }
 
+    /** Clicks the day button for an ISO date (yyyy-MM-dd), moving the picker straight to its month. */
     public boolean clickCalendarDayIso(String isoDate) {
         try {
-            By day = By.xpath("//button[@data-hrl-bo='" + isoDate + "']");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_MEDIUM_SEC));
-            for (int i = 0; i < 6; i++) {
-                try {
-                    WebElement el = wait.until(ExpectedConditions.visibilityOfElementLocated(day));
-                    scrollIntoView(el);
-                    click(el);
-                    return true;
-                } catch (Exception notVisible) {
-                    // next month
-                    try {
-                        WebElement arrow = wait.until(ExpectedConditions.elementToBeClickable(nextMonthArrow));
-                        scrollIntoView(arrow);
-                        arrow.click();
-                        try { Thread.sleep(150); } catch (InterruptedException ignored) {}
-                    } catch (Exception arrowFail) {
-                        break;
-                    }
-                }
-            }
-            return false;
+            WebElement el = calendar.showDay(LocalDate.parse(isoDate));
+            if (el == null) return false;
+            scrollIntoView(el);
+            click(el);
+            return true;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /** Reads the days count from the Next button, its container or the summary, in one script call (see {@link TripDaysProbe}). */
     public int getTripDaysFromUI() {
-        try {
-            WebElement btn = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
-            scrollIntoView(btn);
-            String text = btn.getText();
-            java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d+)").matcher(text);
-            if (m.find()) return Integer.parseInt(m.group(1));
-            // fallback: container and summary nodes
+        TripDaysProbe.Reading reading = TripDaysProbe.read(driver, 0);
+        if (reading != null && !reading.buttonFound()) {
             try {
-                WebElement container = btn.findElement(By.xpath("ancestor::*[self::section or self::div][1]"));
-                String cText = container.getText();
-                java.util.regex.Matcher m2 = java.util.regex.Pattern.compile("(\\d+)").matcher(cText);
-                if (m2.find()) return Integer.parseInt(m2.group(1));
-                String inner = container.getAttribute("innerText");
-                if (inner != null) {
-                    java.util.regex.Matcher m3 = java.util.regex.Pattern.compile("(\\d+)").matcher(inner);
-                    if (m3.find()) return Integer.parseInt(m3.group(1));
-                }
-                String txt = container.getAttribute("textContent");
-                if (txt != null) {
-                    java.util.regex.Matcher m4 = java.util.regex.Pattern.compile("(\\d+)").matcher(txt);
-                    if (m4.find()) return Integer.parseInt(m4.group(1));
-                }
+                elements.visible(nextButtonById, WAIT_SHORT_SEC);
+                reading = TripDaysProbe.read(driver, 0);
             } catch (Exception ignored) {}
-        } catch (Exception ignored) {}
-        // scan summary labels
-        java.util.List<WebElement> nodes = driver.findElements(daysSummaryCandidates);
-        int best = -1;
-        if (nodes != null) {
-            for (WebElement n : nodes) {
-                try {
-                    scrollIntoView(n);
-                    String t = n.getText();
-                    if (t == null || t.trim().isEmpty()) continue;
-                    java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d+)").matcher(t);
-                    if (m.find()) best = Math.max(best, Integer.parseInt(m.group(1)));
-                    if (best < 0) {
-                        String inner = n.getAttribute("innerText");
-                        if (inner != null) {
-                            java.util.regex.Matcher mi = java.util.regex.Pattern.compile("(\\d+)").matcher(inner);
-                            if (mi.find()) best = Math.max(best, Integer.parseInt(mi.group(1)));
-                        }
-                        String txt = n.getAttribute("textContent");
-                        if (txt != null) {
-                            java.util.regex.Matcher mt = java.util.regex.Pattern.compile("(\\d+)").matcher(txt);
-                            if (mt.find()) best = Math.max(best, Integer.parseInt(mt.group(1)));
-                        }
-                    }
-                } catch (Exception ignored) {}
-            }
         }
-        return best;
+        return reading == null ? -1 : reading.days();
     }
 
+    /** Waits until the Next button shows a numeric days count, and returns it (event-driven, see {@link TripDaysProbe}). */
     public int waitForTripDaysOnNext(int timeoutSeconds) {
-        long end = System.currentTimeMillis() + Math.max(1, timeoutSeconds) * 1000L;
-        int val = -1;
-        while (System.currentTimeMillis() < end) {
-            try {
-                // nudge viewport
-                try {
-                    WebElement btn = driver.findElement(nextButtonById);
-                    scrollIntoView(btn);
-                    ((JavascriptExecutor) driver).executeScript("window.scrollBy(0, " + SCROLL_NUDGE_PX + ");");
-                } catch (Exception ignored) {}
-                val = getTripDaysFromUI();
-                if (val >= 0) return val;
-            } catch (Exception ignored) {}
-            try { Thread.sleep(300); } catch (InterruptedException ignored) {}
-        }
-        return val;
+        return TripDaysProbe.waitForDays(driver, SCROLL_NUDGE_PX, timeoutSeconds, this::getTripDaysFromUI);
     }
 
     public boolean verifyTripDaysOnNextMatchesInputs(int toleranceDays) {
@@ -200,10 +145,10 @@ public class DateSection {
 
     public boolean clickNext() {
         try {
-            WebElement btn = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
+            WebElement btn = elements.visible(nextButtonById, WAIT_SHORT_SEC);
             scrollIntoView(btn);
             click(btn);
+            elements.stepChanged();
             return true;
         } catch (Exception e) {
             return false;
@@ -211,14 +156,17 @@ public class DateSection {
     }
 
     public boolean clickNextAndWaitForScreenTitle() {
+        long start = System.nanoTime();
         try {
-            WebElement btn = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
+            WebElement btn = elements.visible(nextButtonById, WAIT_SHORT_SEC);
             scrollIntoView(btn);
             click(btn);
-            WebElement title = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
+            elements.stepChanged();
+            WebElement title = waits.forSeconds(WAIT_SHORT_SEC)
                     .until(ExpectedConditions.visibilityOfElementLocated(screenTitle));
-            return title != null && title.isDisplayed();
+            boolean shown = title != null && title.isDisplayed();
+            if (shown) StepTimings.record(StepTimings.Step.DATE_TO_NEXT_SCREEN, start);
+            return shown;
         } catch (Exception e) {
             return false;
         }
@@ -226,11 +174,11 @@ public class DateSection {
 
     public boolean clickNextAndWaitForGeneralError(String expectedContains) {
         try {
-            WebElement btn = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
-                    .until(ExpectedConditions.visibilityOfElementLocated(nextButtonById));
+            WebElement btn = elements.visible(nextButtonById, WAIT_SHORT_SEC);
             scrollIntoView(btn);
             click(btn);
-            WebElement err = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC))
+            elements.stepChanged();
+            WebElement err = waits.forSeconds(WAIT_SHORT_SEC)
                     .until(ExpectedConditions.visibilityOfElementLocated(generalError));
             if (err == null || !err.isDisplayed()) return false;
             if (expectedContains == null || expectedContains.isEmpty()) return true;
@@ -254,30 +202,35 @@ public class DateSection {
             input.sendKeys(Keys.TAB);
         } catch (Exception ignored) {
             JavascriptExecutor js = (JavascriptExecutor) driver;
-            try { js.executeScript("arguments[0].removeAttribute('readonly');", input); } catch (Exception e) {}
-            js.executeScript(
-                    "arguments[0].value=arguments[1];" +
-                            "arguments[0].dispatchEvent(new Event('input',{bubbles:true}));" +
-                            "arguments[0].dispatchEvent(new Event('change',{bubbles:true}));" +
-                            "arguments[0].dispatchEvent(new Event('blur',{bubbles:true}));",
-                    input, value
-            );
+            ElementCache.withFresh(input, el -> {
+                try { js.executeScript("arguments[0].removeAttribute('readonly');", el); } catch (Exception e) {}
+                js.executeScript(
+                        "arguments[0].value=arguments[1];" +
+                                "arguments[0].dispatchEvent(new Event('input',{bubbles:true}));" +
+                                "arguments[0].dispatchEvent(new Event('change',{bubbles:true}));" +
+                                "arguments[0].dispatchEvent(new Event('blur',{bubbles:true}));",
+                        el, value
+                );
+            });
         }
     }
 
     private void scrollIntoView(WebElement el) {
         try {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", el);
+            ElementCache.withFresh(el, fresh -> ((JavascriptExecutor) driver)
+                    .executeScript("arguments[0].scrollIntoView({block: 'center'});", fresh));
         } catch (Exception ignored) {}
     }
 
     private void click(WebElement el) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_SHORT_SEC));
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(el));
-            new Actions(driver).moveToElement(el).click().build().perform();
-        } catch (Exception e) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
-        }
+        Wait<WebDriver> wait = waits.forSeconds(WAIT_SHORT_SEC);
+        ElementCache.withFresh(el, fresh -> {
+            try {
+                wait.until(ExpectedConditions.elementToBeClickable(fresh));
+                new Actions(driver).moveToElement(fresh).click().build().perform();
+            } catch (Exception e) {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", fresh);
+            }
+        });
     }
 }
@@ -0,0 +1,238 @@
+package pagesObject.components;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.TripDaysParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Reads every text the days count can appear in with a single executeScript round trip:
+ * the Next button (id="nextButton"), its nearest section/div container, and the "ימים" summary nodes.
+ * Later sources are only collected when the earlier ones hold no digit.
+ * {@link #waitForDays} waits for the count event-driven instead of sleep-polling.
+ */
+public final class TripDaysProbe {
+    /** Same nodes as the former daysSummaryCandidates locator. */
+    static final String DAYS_SUMMARY_XPATH = "//*[contains(normalize-space(text()), 'ימים')]";
+
+    /** collect(scroll, nudge, xpath): the texts the days count can appear in, as a plain object. */
+    private static final String COLLECT_FN =
+            "function collect(scroll, nudge, xpath) {" +
+            "  var out = {buttonFound: false, button: null, container: null, containerContent: null, summaries: []};" +
+            "  var btn = document.getElementById('nextButton');" +
+            "  if (btn) {" +
+            "    out.buttonFound = true;" +
+            "    if (scroll) { btn.scrollIntoView({block: 'center'}); if (nudge) window.scrollBy(0, nudge); }" +
+            "    out.button = btn.innerText;" +
+            "    if (/\\d/.test(out.button || '')) return out;" +
+            "    var c = btn.parentElement;" +
+            "    while (c && c.tagName !== 'SECTION' && c.tagName !== 'DIV') c = c.parentElement;" +
+            "    if (c) {" +
+            "      out.container = c.innerText;" +
+            "      out.containerContent = c.textContent;" +
+            "      if (/\\d/.test(out.container || '') || /\\d/.test(out.containerContent || '')) return out;" +
+            "    }" +
+            "  }" +
+            "  var snap = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  for (var i = 0; i < snap.snapshotLength; i++) {" +
+            "    var n = snap.snapshotItem(i);" +
+            "    out.summaries.push(n.innerText || n.textContent || '');" +
+            "  }" +
+            "  return out;" +
+            "}" +
+            "function signature(r) {" +
+            "  return [r.button, r.container, r.containerContent].concat(r.summaries).join('\\u0001');" +
+            "}";
+
+    private static final String PROBE_JS = COLLECT_FN +
+            "var r = collect(true, arguments[0], arguments[1]);" +
+            "r.signature = signature(r);" +
+            "return r;";
+
+    /**
+     * Resolves as soon as a digit shows up in a text that differs from the previous reading (arguments[3]),
+     * observing the Next button's container (the whole body until the button exists); gives up after arguments[2] ms.
+     */
+    private static final String AWAIT_JS = COLLECT_FN +
+            "var nudge = arguments[0], xpath = arguments[1], timeoutMs = arguments[2], previous = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function ready(r) {" +
+            "  r.signature = signature(r);" +
+            "  return r.signature !== previous && /\\d/.test(r.signature);" +
+            "}" +
+            "var first = collect(true, nudge, xpath);" +
+            "if (ready(first)) { done(first); return; }" +
+            "var finished = false, observer = null, timer = null, watched = null;" +
+            "function finish(r) {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  if (observer) observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  done(r);" +
+            "}" +
+            "function watchTarget() {" +
+            "  var btn = document.getElementById('nextButton');" +
+            "  if (!btn) return document.body;" +
+            "  var c = btn.parentElement;" +
+            "  while (c && c.tagName !== 'SECTION' && c.tagName !== 'DIV') c = c.parentElement;" +
+            "  return (c && c.parentElement) || c || btn;" +
+            "}" +
+            "function observe() {" +
+            "  var target = watchTarget();" +
+            "  if (target === watched) return;" +
+            "  if (observer) observer.disconnect();" +
+            "  watched = target;" +
+            "  observer.observe(target, {subtree: true, childList: true, characterData: true});" +
+            "}" +
+            "observer = new MutationObserver(function () {" +
+            "  var r = collect(false, nudge, xpath);" +
+            "  if (ready(r)) { finish(r); return; }" +
+            "  observe();" +
+            "});" +
+            "observe();" +
+            "timer = setTimeout(function () {" +
+            "  var r = collect(false, nudge, xpath);" +
+            "  r.signature = signature(r);" +
+            "  r.timedOut = true;" +
+            "  finish(r);" +
+            "}, timeoutMs);";
+
+    /** Longest single async wait; stays under the WebDriver default script timeout (30 s). */
+    private static final long ASYNC_CHUNK_MS = 20_000;
+
+    private TripDaysProbe() {}
+
+    /**
+     * Scrolls the Next button into view (plus scrollNudgePx) and reads the days texts.
+     * Returns null if the script could not run.
+     */
+    public static Reading read(WebDriver driver, int scrollNudgePx) {
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeScript(PROBE_JS, scrollNudgePx, DAYS_SUMMARY_XPATH);
+            return raw instanceof Map ? Reading.from((Map<?, ?>) raw) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the days count without sleeping: a MutationObserver installed through executeAsyncScript
+     * returns as soon as a new digit is rendered. Falls back to calling pollingRead every 300 ms
+     * when async scripts cannot run. Returns -1 on timeout.
+     */
+    public static int waitForDays(WebDriver driver, int scrollNudgePx, int timeoutSeconds, IntSupplier pollingRead) {
+        long end = System.currentTimeMillis() + Math.max(1, timeoutSeconds) * 1000L;
+        String previous = null;
+        long remaining;
+        while ((remaining = end - System.currentTimeMillis()) > 0) {
+            Reading reading;
+            try {
+                Object raw = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_JS, scrollNudgePx, DAYS_SUMMARY_XPATH,
+                        Math.min(remaining, ASYNC_CHUNK_MS), previous);
+                reading = raw instanceof Map ? Reading.from((Map<?, ?>) raw) : null;
+            } catch (Exception e) {
+                reading = null;
+            }
+            if (reading == null) {
+                return pollForDays(end, pollingRead);
+            }
+            int days = reading.days();
+            if (days >= 0) return days;
+            // Digits that are not a day count (or a chunk timeout): wait for the next change
+            previous = reading.signature();
+        }
+        return -1;
+    }
+
+    private static int pollForDays(long end, IntSupplier pollingRead) {
+        int val = -1;
+        while (System.currentTimeMillis() < end) {
+            try {
+                val = pollingRead.getAsInt();
+                if (val >= 0) return val;
+            } catch (Exception ignored) {}
+            try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+        }
+        return val;
+    }
+
+    /** Texts collected by one probe. */
+    public static final class Reading {
+        private final boolean buttonFound;
+        private final String buttonText;
+        private final String containerText;
+        private final String containerTextContent;
+        private final List<String> summaryTexts;
+        private final String signature;
+
+        Reading(boolean buttonFound, String buttonText, String containerText, String containerTextContent,
+                List<String> summaryTexts, String signature) {
+            this.buttonFound = buttonFound;
+            this.buttonText = buttonText;
+            this.containerText = containerText;
+            this.containerTextContent = containerTextContent;
+            this.summaryTexts = Collections.unmodifiableList(summaryTexts);
+            this.signature = signature;
+        }
+
+        static Reading from(Map<?, ?> raw) {
+            List<String> summaries = new ArrayList<>();
+            Object list = raw.get("summaries");
+            if (list instanceof List) {
+                for (Object text : (List<?>) list) {
+                    if (text != null) summaries.add(text.toString());
+                }
+            }
+            return new Reading(Boolean.TRUE.equals(raw.get("buttonFound")), string(raw.get("button")),
+                    string(raw.get("container")), string(raw.get("containerContent")), summaries, string(raw.get("signature")));
+        }
+
+        public boolean buttonFound() {
+            return buttonFound;
+        }
+
+        public String buttonText() {
+            return buttonText;
+        }
+
+        public String containerText() {
+            return containerText;
+        }
+
+        public List<String> summaryTexts() {
+            return summaryTexts;
+        }
+
+        /** All collected texts joined; used to wait for the next change. */
+        String signature() {
+            return signature;
+        }
+
+        /**
+         * Days count in the same precedence the page objects used: button, container innerText,
+         * container textContent, then the largest value among the summary nodes. -1 when none has one.
+         */
+        public int days() {
+            int days = TripDaysParser.parse(buttonText);
+            if (days >= 0) return days;
+            days = TripDaysParser.parse(containerText);
+            if (days >= 0) return days;
+            days = TripDaysParser.parse(containerTextContent);
+            if (days >= 0) return days;
+            int best = TripDaysParser.NOT_FOUND;
+            for (String text : summaryTexts) {
+                best = Math.max(best, TripDaysParser.parse(text));
+            }
+            return best;
+        }
+
+        private static String string(Object value) {
+            return value == null ? null : value.toString();
+        }
+    }
+}
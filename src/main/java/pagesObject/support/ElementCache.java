@@ -0,0 +1,162 @@
+package pagesObject.support;
+
+import ActionDriver.WaitEngine;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Element handles a page object keeps between calls, so repeated use of the same input or button costs no
+ * wait and no findElement. A handle is resolved (wait for visibility) on first use and re-resolved only when
+ * a call on it throws StaleElementReferenceException, or after {@link #stepChanged()}. Scripts and Actions
+ * receive the resolved element rather than calling the handle, so pass handles to them through
+ * {@link #withFresh(WebElement, Consumer)}.
+ * Hit/miss/stale counts per locator are reported in target/perf/element-cache.txt.
+ */
+public final class ElementCache {
+    private static final Map<String, Counters> STATS = new ConcurrentHashMap<>();
+    private static final LongAdder INVALIDATIONS = new LongAdder();
+
+    private final WaitEngine waits;
+    private final Map<By, WebElement> handles = new HashMap<>();
+
+    public ElementCache(WebDriver driver) {
+        this.waits = WaitEngine.of(driver);
+    }
+
+    /** Cached handle for the locator; the first call waits up to timeoutSeconds for it to be visible. */
+    public WebElement visible(By locator, int timeoutSeconds) {
+        Counters counters = counters(locator);
+        WebElement handle = handles.get(locator);
+        if (handle != null) {
+            counters.hits.increment();
+            return handle;
+        }
+        counters.misses.increment();
+        Handle resolver = new Handle(locator, timeoutSeconds, counters);
+        handle = (WebElement) Proxy.newProxyInstance(ElementCache.class.getClassLoader(),
+                new Class<?>[] {WebElement.class, WrapsElement.class, WrapsDriver.class, Locatable.class}, resolver);
+        handles.put(locator, handle);
+        return handle;
+    }
+
+    /** Drops every handle; call after an action that moves the wizard to another step. */
+    public void stepChanged() {
+        if (!handles.isEmpty()) {
+            handles.clear();
+            INVALIDATIONS.increment();
+        }
+    }
+
+    /**
+     * Runs an operation that hands the element to the browser (a script argument, an Actions chain). When it
+     * throws StaleElementReferenceException and the element is a cached handle, the handle is resolved again and
+     * the operation retried once; other elements are passed through unchanged.
+     */
+    public static void withFresh(WebElement element, Consumer<WebElement> operation) {
+        try {
+            operation.accept(element);
+        } catch (StaleElementReferenceException e) {
+            if (!Proxy.isProxyClass(element.getClass())
+                    || !(Proxy.getInvocationHandler(element) instanceof Handle)) throw e;
+            ((Handle) Proxy.getInvocationHandler(element)).refresh();
+            operation.accept(element);
+        }
+    }
+
+    private static Counters counters(By locator) {
+        return STATS.computeIfAbsent(String.valueOf(locator), k -> new Counters());
+    }
+
+    /** Per locator: served from cache, resolved, re-resolved after going stale. */
+    public static String report() {
+        if (STATS.isEmpty()) return "";
+        List<Map.Entry<String, Counters>> entries = new ArrayList<>(STATS.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().hits.sum(), a.getValue().hits.sum()));
+        StringBuilder sb = new StringBuilder("Element cache (step changes: " + INVALIDATIONS.sum() + ")\n");
+        for (Map.Entry<String, Counters> e : entries) {
+            Counters c = e.getValue();
+            long hits = c.hits.sum();
+            long misses = c.misses.sum();
+            sb.append(String.format("  hits %5d  misses %4d  stale %4d  hit rate %3.0f%%  %s%n", hits, misses,
+                    c.stale.sum(), hits + misses == 0 ? 0.0 : 100.0 * hits / (hits + misses), e.getKey()));
+        }
+        return sb.toString();
+    }
+
+    private static final class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder stale = new LongAdder();
+    }
+
+    /** Delegates to the resolved element and resolves it again (once per call) when it has gone stale. */
+    private final class Handle implements InvocationHandler {
+        private final By locator;
+        private final int timeoutSeconds;
+        private final Counters counters;
+        private WebElement element;
+
+        Handle(By locator, int timeoutSeconds, Counters counters) {
+            this.locator = locator;
+            this.timeoutSeconds = timeoutSeconds;
+            this.counters = counters;
+            this.element = resolve();
+        }
+
+        private WebElement resolve() {
+            return waits.forSeconds(timeoutSeconds).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        }
+
+        void refresh() {
+            counters.stale.increment();
+            element = resolve();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getWrappedElement":
+                    return element;
+                case "equals":
+                    Object other = args[0];
+                    while (other instanceof WrapsElement) other = ((WrapsElement) other).getWrappedElement();
+                    return element.equals(other);
+                case "hashCode":
+                    return element.hashCode();
+                case "toString":
+                    return "Cached " + locator + " -> " + element;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) throw e.getCause();
+            }
+            refresh();
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
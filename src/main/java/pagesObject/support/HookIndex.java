@@ -0,0 +1,151 @@
+package pagesObject.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the site's data-hrl-bo hooks kept inside the page: one querySelectorAll pass builds a
+ * value → elements map, reused until a MutationObserver sees nodes added/removed or a data-hrl-bo change,
+ * or the URL (wizard step) changes. Lookups are a property read instead of a document-wide XPath scan,
+ * and {@link #lookup} resolves several hooks in one round trip.
+ */
+public final class HookIndex {
+    public static final String ATTRIBUTE = "data-hrl-bo";
+
+    /** lookup(keys, tag): {key: [elements]} for the requested keys, rebuilding the index when it is stale. */
+    private static final String LOOKUP_JS =
+            "var keys = arguments[0], tag = arguments[1] ? arguments[1].toUpperCase() : null;" +
+            "var url = location.pathname + location.search;" +
+            "var idx = window.__hrlBoIndex;" +
+            "if (!idx || idx.url !== url || idx.dirty || idx.root !== document.documentElement) {" +
+            "  if (idx && idx.observer) idx.observer.disconnect();" +
+            "  var map = Object.create(null);" +
+            "  var nodes = document.querySelectorAll('[" + ATTRIBUTE + "]');" +
+            "  for (var i = 0; i < nodes.length; i++) {" +
+            "    var k = nodes[i].getAttribute('" + ATTRIBUTE + "');" +
+            "    (map[k] || (map[k] = [])).push(nodes[i]);" +
+            "  }" +
+            "  idx = window.__hrlBoIndex = {map: map, url: url, dirty: false, root: document.documentElement," +
+            "    builds: ((idx && idx.builds) || 0) + 1};" +
+            "  var current = idx;" +
+            "  idx.observer = new MutationObserver(function () { current.dirty = true; });" +
+            "  idx.observer.observe(document.documentElement," +
+            "    {subtree: true, childList: true, attributes: true, attributeFilter: ['" + ATTRIBUTE + "']});" +
+            "}" +
+            "var out = {};" +
+            "for (var j = 0; j < keys.length; j++) {" +
+            "  var found = [], list = idx.map[keys[j]] || [];" +
+            "  for (var m = 0; m < list.length; m++) {" +
+            "    if (list[m].isConnected && (!tag || list[m].tagName === tag)) found.push(list[m]);" +
+            "  }" +
+            "  out[keys[j]] = found;" +
+            "}" +
+            "return out;";
+
+    private final JavascriptExecutor js;
+
+    private HookIndex(JavascriptExecutor js) {
+        this.js = js;
+    }
+
+    public static HookIndex of(WebDriver driver) {
+        return new HookIndex((JavascriptExecutor) driver);
+    }
+
+    /** Elements carrying data-hrl-bo=key, in document order. */
+    public List<WebElement> all(String key) {
+        return lookupTagged(null, key).get(key);
+    }
+
+    /** Elements with the given tag carrying data-hrl-bo=key, like //tag[@data-hrl-bo='key']. */
+    public List<WebElement> all(String tag, String key) {
+        return lookupTagged(tag, key).get(key);
+    }
+
+    /** Elements for each key (empty lists for absent hooks), resolved with a single script call. */
+    public Map<String, List<WebElement>> lookup(String... keys) {
+        return lookupTagged(null, keys);
+    }
+
+    private Map<String, List<WebElement>> lookupTagged(String tag, String... keys) {
+        Object raw = js.executeScript(LOOKUP_JS, Arrays.asList(keys), tag);
+        Map<String, List<WebElement>> result = new LinkedHashMap<>();
+        Map<?, ?> byKey = raw instanceof Map ? (Map<?, ?>) raw : Collections.emptyMap();
+        for (String key : keys) {
+            List<WebElement> elements = new ArrayList<>();
+            Object list = byKey.get(key);
+            if (list instanceof List) {
+                for (Object element : (List<?>) list) {
+                    if (element instanceof WebElement) elements.add((WebElement) element);
+                }
+            }
+            result.put(key, elements);
+        }
+        return result;
+    }
+
+    /** Locator for data-hrl-bo=key on any element. */
+    public static By hook(String key) {
+        return new ByHook(null, key);
+    }
+
+    /** Locator for data-hrl-bo=key on the given tag, like //tag[@data-hrl-bo='key']. */
+    public static By hook(String tag, String key) {
+        return new ByHook(tag, key);
+    }
+
+    /**
+     * Resolves through the page index from a driver; inside an element (or if scripts cannot run) it falls back
+     * to the equivalent CSS selector.
+     */
+    private static final class ByHook extends By {
+        private final String tag;
+        private final String key;
+
+        ByHook(String tag, String key) {
+            this.tag = tag;
+            this.key = key;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            if (context instanceof WebDriver && context instanceof JavascriptExecutor) {
+                try {
+                    return new HookIndex((JavascriptExecutor) context).lookupTagged(tag, key).get(key);
+                } catch (RuntimeException ignored) {
+                    // fall through to the selector
+                }
+            }
+            return context.findElements(By.cssSelector(cssSelector()));
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            List<WebElement> found = findElements(context);
+            if (found.isEmpty()) {
+                throw new NoSuchElementException("Cannot locate an element using " + this);
+            }
+            return found.get(0);
+        }
+
+        private String cssSelector() {
+            return (tag == null ? "" : tag) + "[" + ATTRIBUTE + "='" + key.replace("\\", "\\\\").replace("'", "\\'") + "']";
+        }
+
+        @Override
+        public String toString() {
+            return "By.hook: " + (tag == null ? "" : tag) + "[" + ATTRIBUTE + "='" + key + "']";
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package pagesObject.support;
+
+import ActionDriver.EventLog;
+import ActionDriver.WaitEngine;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import utils.Shard;
+import utils.StateFiles;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Locator that tries several alternatives for the same element, historically best first.
+ * Every lookup records which alternative matched; the counts are kept in .perf/locator-chains.properties
+ * between runs, so the chain stops paying for the misses of locators the site no longer uses, and the
+ * report lists alternatives that never match any more. Use it anywhere a By is accepted.
+ * The best alternative is looked up like a plain By, so a chain whose first choice matches costs one round trip;
+ * the fallbacks run with the implicit wait off. Inside a WaitEngine wait, which keeps it off for all of its polls,
+ * no lookup waits and nothing is toggled: wrap the chain in a wait when the element may still appear.
+ */
+public final class LocatorChain extends By {
+    /** .perf file the counts are kept in; ShardReports folds shard files of this name with StateFiles.sum. */
+    private static final String STATS_NAME = "locator-chains";
+    private static final String STATS_COMMENT = "Locator chain alternative hits,misses (see LocatorChain)";
+    private static final Map<String, AlternativeStats> STATS = loadStats();
+
+    private final String name;
+    private final List<By> alternatives;
+
+    private LocatorChain(String name, List<By> alternatives) {
+        this.name = name;
+        this.alternatives = alternatives;
+    }
+
+    /** Chains with the same name share their statistics (e.g. the same input used by two page objects). */
+    public static LocatorChain of(String name, By... alternatives) {
+        if (alternatives.length == 0) throw new IllegalArgumentException("Locator chain " + name + " has no alternatives");
+        return new LocatorChain(name, Collections.unmodifiableList(Arrays.asList(alternatives)));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /** Alternatives in the order the next lookup will try them. */
+    public List<By> currentOrder() {
+        List<By> ordered = new ArrayList<>(alternatives);
+        // Stable sort: declared order breaks ties, so a chain without history behaves like the original code
+        ordered.sort((a, b) -> Double.compare(stats(b).score(), stats(a).score()));
+        return ordered;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        List<By> order = currentOrder();
+        List<WebElement> found = tryAlternative(context, order.get(0));
+        if (!found.isEmpty() || order.size() == 1) {
+            return found;
+        }
+        List<By> fallbacks = order.subList(1, order.size());
+        WebDriver driver = driverOf(context);
+        if (driver == null) {
+            return lookup(context, fallbacks);
+        }
+        return WaitEngine.withoutImplicitWait(driver, () -> lookup(context, fallbacks));
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> found = findElements(context);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("No alternative of locator chain " + name + " matched: " + alternatives);
+        }
+        return found.get(0);
+    }
+
+    private List<WebElement> lookup(SearchContext context, List<By> alternatives) {
+        for (By alternative : alternatives) {
+            List<WebElement> found = tryAlternative(context, alternative);
+            if (!found.isEmpty()) return found;
+        }
+        return Collections.emptyList();
+    }
+
+    /** Matches of one alternative (empty when none), counted as a hit or a miss. */
+    private List<WebElement> tryAlternative(SearchContext context, By alternative) {
+        List<WebElement> found = context.findElements(alternative);
+        AlternativeStats stats = stats(alternative);
+        if (found != null && !found.isEmpty()) {
+            stats.hits.increment();
+            return found;
+        }
+        stats.misses.increment();
+        return Collections.emptyList();
+    }
+
+    private AlternativeStats stats(By alternative) {
+        return STATS.computeIfAbsent(key(name, alternative.toString()), k -> new AlternativeStats(0, 0));
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorChain " + name + " " + alternatives;
+    }
+
+    private static WebDriver driverOf(SearchContext context) {
+        if (context instanceof WebDriver) return (WebDriver) context;
+        if (context instanceof WrapsDriver) return ((WrapsDriver) context).getWrappedDriver();
+        return null;
+    }
+
+    private static String key(String chain, String alternative) {
+        return chain + " | " + alternative;
+    }
+
+    /** Drops a chain's statistics so they are neither reported nor saved (chains built by tests). */
+    public static void discardStats(String chainName) {
+        STATS.keySet().removeIf(key -> key.startsWith(chainName + " | "));
+    }
+
+    /** Hits and misses per alternative (this run and history); alternatives without a single hit are flagged. */
+    public static String report() {
+        if (STATS.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder("Locator chains (hits/misses including previous runs)\n");
+        for (Map.Entry<String, AlternativeStats> e : new TreeMap<>(STATS).entrySet()) {
+            AlternativeStats s = e.getValue();
+            long hits = s.totalHits();
+            long misses = s.totalMisses();
+            sb.append(String.format("  %6d hits  %6d misses  this run %4d/%-4d %s%s%n", hits, misses,
+                    s.hits.sum(), s.misses.sum(), hits == 0 && misses > 0 ? "DEAD  " : "", e.getKey()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds this run's counts to the persisted statistics. A shard saves only its own counts, to its own file,
+     * and ShardReports adds them up after the run.
+     */
+    public static void saveStats() {
+        if (STATS.isEmpty()) return;
+        boolean shard = Shard.active();
+        Properties props = new Properties();
+        for (Map.Entry<String, AlternativeStats> e : STATS.entrySet()) {
+            AlternativeStats s = e.getValue();
+            props.setProperty(e.getKey(), shard ? s.hits.sum() + "," + s.misses.sum()
+                    : s.totalHits() + "," + s.totalMisses());
+        }
+        Path file = StateFiles.forThisRun(STATS_NAME);
+        try {
+            StateFiles.store(file, props, STATS_COMMENT);
+        } catch (IOException e) {
+            EventLog.warn("LocatorChain", "Could not save " + file + ": " + e.getMessage());
+        }
+    }
+
+    /** "hits,misses" as two numbers; zeros when unreadable. */
+    private static long[] counts(String value) {
+        String[] parts = value.split(",");
+        try {
+            return new long[] {Long.parseLong(parts[0].trim()), Long.parseLong(parts[1].trim())};
+        } catch (RuntimeException e) {
+            return new long[2];
+        }
+    }
+
+    private static Map<String, AlternativeStats> loadStats() {
+        Map<String, AlternativeStats> stats = new ConcurrentHashMap<>();
+        Properties props = StateFiles.load(StateFiles.file(STATS_NAME));
+        for (String key : props.stringPropertyNames()) {
+            long[] counts = counts(props.getProperty(key));
+            stats.put(key, new AlternativeStats(counts[0], counts[1]));
+        }
+        return stats;
+    }
+
+    private static final class AlternativeStats {
+        final long pastHits;
+        final long pastMisses;
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+
+        AlternativeStats(long pastHits, long pastMisses) {
+            this.pastHits = pastHits;
+            this.pastMisses = pastMisses;
+        }
+
+        long totalHits() {
+            return pastHits + hits.sum();
+        }
+
+        long totalMisses() {
+            return pastMisses + misses.sum();
+        }
+
+        /** Smoothed hit rate; 0.5 for an alternative that was never tried. */
+        double score() {
+            return (totalHits() + 1.0) / (totalHits() + totalMisses() + 2.0);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe collection of latency samples (milliseconds) with percentile summaries.
+ */
+public final class LatencyStats {
+    private long[] samples = new long[16];
+    private int count;
+    private long total;
+
+    public synchronized void record(long millis) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = millis;
+        total += millis;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized long total() {
+        return total;
+    }
+
+    public synchronized double mean() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    public synchronized long max() {
+        long max = 0;
+        for (int i = 0; i < count; i++) max = Math.max(max, samples[i]);
+        return max;
+    }
+
+    /** Nearest-rank percentile (p in 0..100); 0 when there are no samples. */
+    public synchronized long percentile(int p) {
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(p / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, idx))];
+    }
+
+    /** One-line summary, e.g. "n=12 avg=840 p50=790 p95=1320 max=1410 ms". */
+    public synchronized String summary() {
+        return String.format("n=%d avg=%.0f p50=%d p95=%d max=%d ms",
+                count, mean(), percentile(50), percentile(95), max());
+    }
+}
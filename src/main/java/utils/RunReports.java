@@ -0,0 +1,43 @@
+package utils;
+
+import ActionDriver.EventLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes per-run performance reports under target/perf so CI publishes them next to the Surefire output;
+ * a shard writes to target/perf/shard-&lt;i&gt; and {@link ShardReports} combines them.
+ * Statistics that must survive "mvn clean" (learned between runs) live under .perf in the project directory.
+ */
+public final class RunReports {
+    private RunReports() {}
+
+    /** Directory that holds this run's reports. */
+    public static Path dir() {
+        Path perf = Paths.get(System.getProperty("user.dir"), "target", "perf");
+        return Shard.active() ? perf.resolve(Shard.label()) : perf;
+    }
+
+    /** Directory for statistics kept between runs (not committed). */
+    public static Path stateDir() {
+        return Paths.get(System.getProperty("user.dir"), ".perf");
+    }
+
+    /** Writes the report, echoes it to the event log and returns its path (null if it could not be written). */
+    public static Path write(String fileName, String content) {
+        EventLog.note("RunReports", content);
+        try {
+            Path file = dir().resolve(fileName);
+            Files.createDirectories(file.getParent());
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            return file;
+        } catch (IOException e) {
+            EventLog.warn("RunReports", "Failed to write report " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package utils;
+
+/**
+ * Which slice of the suite this JVM runs when the suite is split over several JVMs (-Dshard.index=i
+ * -Dshard.count=n, see the "shard" Maven profile). Each shard runs every &lt;test&gt; of testng.xml but only its
+ * share of the methods; {@link ShardReports} merges the shards' reports afterwards.
+ */
+public final class Shard {
+    private static final int COUNT = parse("shard.count", 1);
+    private static final int INDEX = parse("shard.index", 0);
+
+    static {
+        if (COUNT < 1 || INDEX < 0 || INDEX >= COUNT) {
+            throw new IllegalStateException("shard.index must be in 0.." + (COUNT - 1) + " for shard.count=" + COUNT
+                    + ", got " + INDEX);
+        }
+    }
+
+    private Shard() {}
+
+    /** True when the suite is split over more than one JVM. */
+    public static boolean active() {
+        return COUNT > 1;
+    }
+
+    public static int index() {
+        return INDEX;
+    }
+
+    public static int count() {
+        return COUNT;
+    }
+
+    /** Directory name used for this shard's reports, e.g. "shard-1". */
+    public static String label() {
+        return "shard-" + INDEX;
+    }
+
+    private static int parse(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(key + " must be a number, got \"" + value + "\"");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package utils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merges the reports of a sharded run into the single-JVM layout, so surefire-report and the Pages site show one
+ * suite. Reads target/shards/shard-*: Surefire TEST-*.xml files of the same test class are combined (test cases
+ * appended, counts and time summed) and the TestNG testng-results.xml files are merged by suite, test and class.
+ * The per-shard target/perf/shard-* reports are concatenated into target/perf, and the statistics the shards
+ * saved under .perf (test durations for the next run's slicing, locator chain counts, blocked resource sizes) are
+ * folded into the shared files.
+ * Run after all shards finished: java -cp target/classes utils.ShardReports [target directory]
+ */
+public final class ShardReports {
+    private static final String[] SUREFIRE_COUNTS = {"tests", "failures", "errors", "skipped"};
+    private static final String[] TESTNG_COUNTS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardReports() {}
+
+    public static void main(String[] args) throws Exception {
+        Path target = Paths.get(args.length > 0 ? args[0] : "target");
+        List<Path> shards = shardDirs(target.resolve("shards"));
+        if (shards.isEmpty()) {
+            System.err.println("✗ No shard reports under " + target.resolve("shards"));
+            System.exit(1);
+        }
+        Path reports = target.resolve("surefire-reports");
+        int classes = mergeSurefire(shards, reports);
+        mergeTestNg(shards, reports);
+        mergePerf(target.resolve("perf"));
+        int durations = TestDurations.foldShards();
+        // By name: this runs on target/classes alone, so the owners (Selenium types) are not loaded
+        StateFiles.foldShards("locator-chains", StateFiles::sum);
+        StateFiles.foldShards("blocked-resource-sizes", StateFiles::latest);
+        System.out.println("✓ Merged " + shards.size() + " shard(s): " + classes + " test class report(s) in " + reports
+                + ", durations from " + durations + " shard(s)");
+    }
+
+    /** Combines TEST-*.xml per test class into outDir; returns the number of merged files. */
+    public static int mergeSurefire(List<Path> shards, Path outDir) throws Exception {
+        Map<String, List<Path>> byName = new TreeMap<>();
+        for (Path shard : shards) {
+            for (Path file : list(shard, "TEST-*.xml")) {
+                byName.computeIfAbsent(file.getFileName().toString(), k -> new ArrayList<>()).add(file);
+            }
+        }
+        Files.createDirectories(outDir);
+        for (Map.Entry<String, List<Path>> e : byName.entrySet()) {
+            Document merged = parse(e.getValue().get(0));
+            Element suite = merged.getDocumentElement();
+            for (Path other : e.getValue().subList(1, e.getValue().size())) {
+                Element otherSuite = parse(other).getDocumentElement();
+                for (Element testCase : children(otherSuite, "testcase")) {
+                    suite.appendChild(merged.importNode(testCase, true));
+                }
+                addCounts(suite, otherSuite, SUREFIRE_COUNTS);
+                suite.setAttribute("time", String.format(Locale.ROOT, "%.3f",
+                        seconds(suite, "time") + seconds(otherSuite, "time")));
+            }
+            write(merged, outDir.resolve(e.getKey()));
+        }
+        return byName.size();
+    }
+
+    /** Merges the shards' testng-results.xml into outDir/testng-results.xml. */
+    public static void mergeTestNg(List<Path> shards, Path outDir) throws Exception {
+        Document merged = null;
+        for (Path shard : shards) {
+            Path file = shard.resolve("testng-results.xml");
+            if (!Files.isRegularFile(file)) continue;
+            Document doc = parse(file);
+            if (merged == null) {
+                merged = doc;
+                continue;
+            }
+            Element root = merged.getDocumentElement();
+            addCounts(root, doc.getDocumentElement(), TESTNG_COUNTS);
+            for (Element suite : children(doc.getDocumentElement(), "suite")) {
+                Element into = child(root, "suite", suite.getAttribute("name"));
+                if (into == null) {
+                    root.appendChild(merged.importNode(suite, true));
+                    continue;
+                }
+                maxDuration(into, suite);
+                for (Element test : children(suite, "test")) {
+                    Element intoTest = child(into, "test", test.getAttribute("name"));
+                    if (intoTest == null) {
+                        into.appendChild(merged.importNode(test, true));
+                        continue;
+                    }
+                    maxDuration(intoTest, test);
+                    for (Element cls : children(test, "class")) {
+                        Element intoClass = child(intoTest, "class", cls.getAttribute("name"));
+                        if (intoClass == null) {
+                            intoTest.appendChild(merged.importNode(cls, true));
+                        } else {
+                            for (Element method : children(cls, "test-method")) {
+                                intoClass.appendChild(merged.importNode(method, true));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (merged != null) {
+            Files.createDirectories(outDir);
+            write(merged, outDir.resolve("testng-results.xml"));
+        }
+    }
+
+    /** Concatenates perfDir/shard-*&#47;name.txt into perfDir/name.txt, one section per shard. */
+    public static void mergePerf(Path perfDir) throws IOException {
+        Map<String, StringBuilder> merged = new LinkedHashMap<>();
+        for (Path shard : shardDirs(perfDir)) {
+            for (Path file : list(shard, "*.txt")) {
+                merged.computeIfAbsent(file.getFileName().toString(), k -> new StringBuilder())
+                        .append("== ").append(shard.getFileName()).append(" ==\n")
+                        .append(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).append('\n');
+            }
+        }
+        for (Map.Entry<String, StringBuilder> e : merged.entrySet()) {
+            Files.write(perfDir.resolve(e.getKey()), e.getValue().toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static List<Path> shardDirs(Path parent) throws IOException {
+        List<Path> dirs = new ArrayList<>();
+        if (!Files.isDirectory(parent)) return dirs;
+        for (Path dir : list(parent, "shard-*")) {
+            if (Files.isDirectory(dir)) dirs.add(dir);
+        }
+        dirs.sort((a, b) -> Integer.compare(shardNumber(a), shardNumber(b)));
+        return dirs;
+    }
+
+    private static int shardNumber(Path dir) {
+        try {
+            return Integer.parseInt(dir.getFileName().toString().substring("shard-".length()));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static List<Path> list(Path dir, String glob) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private static void addCounts(Element into, Element from, String[] attributes) {
+        for (String attribute : attributes) {
+            if (!into.hasAttribute(attribute) && !from.hasAttribute(attribute)) continue;
+            into.setAttribute(attribute, Long.toString(number(into, attribute) + number(from, attribute)));
+        }
+    }
+
+    /** Shards run side by side, so a merged suite or test took as long as its slowest shard. */
+    private static void maxDuration(Element into, Element from) {
+        if (number(from, "duration-ms") > number(into, "duration-ms")) {
+            into.setAttribute("duration-ms", from.getAttribute("duration-ms"));
+            if (from.hasAttribute("finished-at")) into.setAttribute("finished-at", from.getAttribute("finished-at"));
+        }
+    }
+
+    private static long number(Element element, String attribute) {
+        try {
+            return Long.parseLong(element.getAttribute(attribute).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double seconds(Element element, String attribute) {
+        try {
+            return Double.parseDouble(element.getAttribute(attribute).trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<Element> children(Element parent, String tag) {
+        List<Element> found = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element && tag.equals(node.getNodeName())) found.add((Element) node);
+        }
+        return found;
+    }
+
+    private static Element child(Element parent, String tag, String name) {
+        for (Element element : children(parent, tag)) {
+            if (name.equals(element.getAttribute("name"))) return element;
+        }
+        return null;
+    }
+
+    private static Document parse(Path file) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", false);
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        return builder.parse(file.toFile());
+    }
+
+    private static void write(Document doc, Path file) throws Exception {
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.transform(new DOMSource(doc), new StreamResult(file.toFile()));
+    }
+}
@@ -0,0 +1,127 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.BinaryOperator;
+
+/**
+ * Properties files under .perf that statistics are learned into across runs. A save goes through a temporary file
+ * and an atomic move, so a reader never sees half a file. Shards of one run would overwrite each other's file, so
+ * each saves to its own &lt;name&gt;-shard-&lt;i&gt;.properties and {@link ShardReports} folds those into
+ * &lt;name&gt;.properties after the run.
+ */
+public final class StateFiles {
+    private StateFiles() {}
+
+    /** .perf/&lt;name&gt;.properties */
+    public static Path file(String name) {
+        return RunReports.stateDir().resolve(name + ".properties");
+    }
+
+    /** Where a shard saves ("shard-1" → .perf/&lt;name&gt;-shard-1.properties). */
+    public static Path shardFile(String name, String shardLabel) {
+        return RunReports.stateDir().resolve(name + "-" + shardLabel + ".properties");
+    }
+
+    /** The file this JVM saves to: its shard file in a sharded run, the shared file otherwise. */
+    public static Path forThisRun(String name) {
+        return Shard.active() ? shardFile(name, Shard.label()) : file(name);
+    }
+
+    /** Properties in the file; empty when it does not exist or cannot be read. */
+    public static Properties load(Path file) {
+        Properties props = new Properties();
+        if (file == null || !Files.isRegularFile(file)) return props;
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        } catch (IOException e) {
+            return new Properties();
+        }
+        return props;
+    }
+
+    /** Replaces the file atomically with the properties. */
+    public static void store(Path file, Properties props, String comment) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                props.store(out, comment);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Merges every shard file of the name into the shared file and deletes them; a key in both is combined with
+     * merge(shared value, shard value) and the header comment is taken from the shard files. Returns how many
+     * shard files were merged.
+     */
+    public static int foldShards(String name, BinaryOperator<String> merge) throws IOException {
+        Path main = file(name);
+        if (!Files.isDirectory(main.getParent())) return 0;
+        List<Path> parts = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(main.getParent(), name + "-shard-*.properties")) {
+            stream.forEach(parts::add);
+        }
+        if (parts.isEmpty()) return 0;
+        parts.sort(null);
+        Properties merged = load(main);
+        for (Path part : parts) {
+            Properties shard = load(part);
+            for (String key : shard.stringPropertyNames()) {
+                String current = merged.getProperty(key);
+                String value = shard.getProperty(key);
+                merged.setProperty(key, current == null ? value : merge.apply(current, value));
+            }
+        }
+        store(main, merged, comment(parts.get(0)));
+        for (Path part : parts) {
+            Files.deleteIfExists(part);
+        }
+        return parts.size();
+    }
+
+    /** Merge that keeps the shard's value (the latest measurement). */
+    public static String latest(String stored, String shard) {
+        return shard;
+    }
+
+    /** Merge for comma-separated counts ("hits,misses"): adds them position by position. */
+    public static String sum(String stored, String shard) {
+        String[] a = stored.split(",");
+        String[] b = shard.split(",");
+        if (a.length != b.length) return shard;
+        StringBuilder sb = new StringBuilder();
+        try {
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(Long.parseLong(a[i].trim()) + Long.parseLong(b[i].trim()));
+            }
+        } catch (NumberFormatException e) {
+            return shard;
+        }
+        return sb.toString();
+    }
+
+    /** First comment line of a stored file (what store() was given), or null. */
+    private static String comment(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            String first = in.readLine();
+            return first != null && first.startsWith("#") ? first.substring(1) : null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package utils;
+
+import ActionDriver.EventLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency of each wizard step transition, aggregated over the run (p50/p95) and compared with a committed
+ * baseline (step-id.p50 / step-id.p95 in milliseconds). Only completed transitions are recorded; a step that
+ * timed out is a functional failure, not a latency sample.
+ */
+public final class StepTimings {
+    /** Fewest samples a step needs before its percentiles are compared with the baseline. */
+    public static final int MIN_SAMPLES = 3;
+    /** Differences below this are noise however large the percentage (a 200 ms step doubling to 400 ms). */
+    public static final long MIN_REGRESSION_MS = 250;
+
+    public enum Step {
+        LANDING_TO_DESTINATION("landing-to-destination"),
+        REGION_TO_NEXT_ENABLED("region-to-next-enabled"),
+        DESTINATION_TO_DATE("destination-to-date"),
+        DATE_TO_NEXT_SCREEN("date-to-next-screen");
+
+        private final String id;
+
+        Step(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    private static final StepTimings RUN = new StepTimings();
+
+    private final Map<Step, LatencyStats> stats = new EnumMap<>(Step.class);
+
+    public StepTimings() {
+        for (Step step : Step.values()) {
+            stats.put(step, new LatencyStats());
+        }
+    }
+
+    /** Timings of the current run. */
+    public static StepTimings run() {
+        return RUN;
+    }
+
+    /** Records a completed transition that started at startNanos (System.nanoTime()) in the current run. */
+    public static void record(Step step, long startNanos) {
+        RUN.add(step, (System.nanoTime() - startNanos) / 1_000_000L);
+    }
+
+    public void add(Step step, long millis) {
+        stats.get(step).record(millis);
+    }
+
+    public boolean isEmpty() {
+        for (LatencyStats s : stats.values()) {
+            if (s.count() > 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Steps whose p50 or p95 is more than thresholdPercent (and {@link #MIN_REGRESSION_MS}) above the baseline,
+     * e.g. "destination-to-date p95 4210 ms vs baseline 2900 ms (+45%)".
+     */
+    public List<String> regressions(Properties baseline, int thresholdPercent) {
+        List<String> found = new ArrayList<>();
+        for (Step step : Step.values()) {
+            LatencyStats s = stats.get(step);
+            if (s.count() < MIN_SAMPLES) continue;
+            for (int p : new int[] {50, 95}) {
+                long expected = baselineValue(baseline, step, p);
+                long actual = s.percentile(p);
+                if (expected <= 0) continue;
+                if (actual - expected >= MIN_REGRESSION_MS && actual * 100 > expected * (100L + thresholdPercent)) {
+                    found.add(String.format("%s p%d %d ms vs baseline %d ms (+%d%%)", step.id(), p, actual, expected,
+                            Math.round(100.0 * (actual - expected) / expected)));
+                }
+            }
+        }
+        return found;
+    }
+
+    /** Per step: samples, p50/p95 and the baseline they are compared with. */
+    public String report(Properties baseline) {
+        StringBuilder sb = new StringBuilder("Wizard step latency (baseline p50/p95 in brackets)\n");
+        for (Step step : Step.values()) {
+            LatencyStats s = stats.get(step);
+            if (s.count() == 0) continue;
+            long p50 = baselineValue(baseline, step, 50);
+            long p95 = baselineValue(baseline, step, 95);
+            String reference = p50 > 0 || p95 > 0 ? String.format("[%d/%d]", p50, p95) : "[no baseline]";
+            String note = s.count() < MIN_SAMPLES ? "  (too few samples to compare)" : "";
+            sb.append(String.format("  %-24s %s %s%s%n", step.id(), s.summary(), reference, note));
+        }
+        return sb.toString();
+    }
+
+    /** This run's percentiles in baseline form, for steps that have enough samples. */
+    public Properties toBaseline() {
+        Properties out = new Properties();
+        for (Step step : Step.values()) {
+            LatencyStats s = stats.get(step);
+            if (s.count() < MIN_SAMPLES) continue;
+            out.setProperty(step.id() + ".p50", Long.toString(s.percentile(50)));
+            out.setProperty(step.id() + ".p95", Long.toString(s.percentile(95)));
+        }
+        return out;
+    }
+
+    /** Baseline from the file, or empty when it does not exist or cannot be read. */
+    public static Properties loadBaseline(Path file) {
+        Properties props = new Properties();
+        if (file == null || !Files.isRegularFile(file)) return props;
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        } catch (IOException e) {
+            EventLog.warn("StepTimings", "Failed to read step baseline " + file + ": " + e.getMessage());
+        }
+        return props;
+    }
+
+    /** Replaces the baseline's values for the steps measured in this run, keeping the others. */
+    public static void updateBaseline(Path file, Properties measured) throws IOException {
+        Properties merged = loadBaseline(file);
+        merged.putAll(measured);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            merged.store(out, "Wizard step latency baseline (ms); refresh with -Dsteps.baseline.update=true");
+        }
+    }
+
+    private static long baselineValue(Properties baseline, Step step, int percentile) {
+        String value = baseline == null ? null : baseline.getProperty(step.id() + ".p" + percentile);
+        if (value == null) return 0;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
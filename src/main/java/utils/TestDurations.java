@@ -0,0 +1,111 @@
+package utils;
+
+import ActionDriver.EventLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test durations learned across runs ("TestClass.method" → milliseconds), used to schedule the slowest tests
+ * first. Each run's duration is blended into the stored value (new runs weigh {@link #NEW_RUN_WEIGHT}) so one
+ * slow run does not reorder everything. Tests never seen before are estimated at the median of the known ones.
+ */
+public final class TestDurations {
+    /** Weight of the latest run in the stored duration. */
+    static final double NEW_RUN_WEIGHT = 0.3;
+    /** Estimate used when no duration has been recorded at all. */
+    static final long UNKNOWN_MS = 1_000;
+
+    private static final String NAME = "test-durations";
+    private static final String COMMENT = "Test durations in ms (see TestDurations)";
+
+    private final Map<String, Long> millis = new ConcurrentHashMap<>();
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    /** Durations kept under .perf between runs. */
+    public static Path defaultFile() {
+        return StateFiles.file(NAME);
+    }
+
+    /**
+     * Where a shard saves its durations ("shard-1" → .perf/test-durations-shard-1.properties), so the file the
+     * shards slice the suite by does not change while they run; {@link #foldShards()} merges them afterwards.
+     */
+    public static Path shardFile(String shardLabel) {
+        return StateFiles.shardFile(NAME, shardLabel);
+    }
+
+    /** Merges and deletes the shard files written by {@link #shardFile}; returns how many were merged. */
+    public static int foldShards() throws IOException {
+        return StateFiles.foldShards(NAME, StateFiles::latest);
+    }
+
+    /** Durations from the file; empty when it does not exist or cannot be read. */
+    public static TestDurations load(Path file) {
+        TestDurations durations = new TestDurations();
+        Properties props = StateFiles.load(file);
+        for (String key : props.stringPropertyNames()) {
+            try {
+                durations.millis.put(key, Long.parseLong(props.getProperty(key).trim()));
+            } catch (NumberFormatException ignored) {}
+        }
+        return durations;
+    }
+
+    /**
+     * Writes the durations recorded in this run into the file, keeping the other entries as they are on disk now,
+     * so shards running at the same time each add their own tests.
+     */
+    public void save(Path file) {
+        if (recorded.isEmpty()) return;
+        TestDurations onDisk = load(file);
+        for (String testId : recorded) {
+            onDisk.millis.put(testId, millis.get(testId));
+        }
+        Properties props = new Properties();
+        onDisk.millis.forEach((k, v) -> props.setProperty(k, Long.toString(v)));
+        try {
+            StateFiles.store(file, props, COMMENT);
+        } catch (IOException e) {
+            EventLog.warn("TestDurations", "Could not save " + file + ": " + e.getMessage());
+        }
+    }
+
+    /** Independent copy of the durations (without this run's records), e.g. a snapshot to plan from. */
+    public TestDurations copy() {
+        TestDurations copy = new TestDurations();
+        copy.millis.putAll(millis);
+        return copy;
+    }
+
+    /** Blends a finished run of the test into its stored duration. */
+    public void record(String testId, long durationMillis) {
+        recorded.add(testId);
+        millis.merge(testId, durationMillis,
+                (old, latest) -> Math.round(old * (1 - NEW_RUN_WEIGHT) + latest * NEW_RUN_WEIGHT));
+    }
+
+    public boolean isKnown(String testId) {
+        return millis.containsKey(testId);
+    }
+
+    /** Stored duration, or the median of the known durations for a test without history. */
+    public long estimate(String testId) {
+        Long known = millis.get(testId);
+        return known != null ? known : median();
+    }
+
+    private long median() {
+        List<Long> values = new ArrayList<>(millis.values());
+        if (values.isEmpty()) return UNKNOWN_MS;
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
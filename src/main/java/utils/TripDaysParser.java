@@ -0,0 +1,100 @@
+package utils;
+
+/**
+ * Reads the trip length from wizard UI text such as the Next button ("הלאה סה"כ: 33 ימים") or the days summary.
+ * Scans the characters once without regex or intermediate strings, skipping RTL/bidi control marks, and picks,
+ * in order: the number right before "ימים", the first number after "סה"כ", or the first number in the text.
+ */
+public final class TripDaysParser {
+    /** Returned when the text holds no usable number. */
+    public static final int NOT_FOUND = -1;
+
+    private static final String DAYS_WORD = "ימים";
+    /** Longest digit run accepted as a day count (larger values cannot be a trip length and would overflow). */
+    private static final int MAX_DIGITS = 9;
+
+    private TripDaysParser() {}
+
+    public static int parse(CharSequence text) {
+        if (text == null) return NOT_FOUND;
+        int length = text.length();
+        int first = NOT_FOUND;
+        int afterTotal = NOT_FOUND;
+        boolean totalSeen = false;
+        int last = NOT_FOUND;
+        boolean onlyGapSinceLast = false;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int value = 0;
+                int digits = 0;
+                while (i < length && (c = text.charAt(i)) >= '0' && c <= '9') {
+                    if (digits < MAX_DIGITS) value = value * 10 + (c - '0');
+                    digits++;
+                    i++;
+                }
+                last = digits <= MAX_DIGITS ? value : NOT_FOUND;
+                onlyGapSinceLast = last != NOT_FOUND;
+                if (first == NOT_FOUND) first = last;
+                if (totalSeen && afterTotal == NOT_FOUND) afterTotal = last;
+                continue;
+            }
+            if (c == 'י' && regionMatches(text, i, DAYS_WORD)) {
+                if (onlyGapSinceLast) return last;
+                onlyGapSinceLast = false;
+                i += DAYS_WORD.length();
+                continue;
+            }
+            int totalLength = c == 'ס' ? totalMarkerLength(text, i) : 0;
+            if (totalLength > 0) {
+                totalSeen = true;
+                onlyGapSinceLast = false;
+                i += totalLength;
+                continue;
+            }
+            if (!isGap(c)) onlyGapSinceLast = false;
+            i++;
+        }
+        if (afterTotal != NOT_FOUND) return afterTotal;
+        return first;
+    }
+
+    /** Whitespace and the invisible marks RTL pages put around numbers (LRM/RLM/ALM, embeddings, isolates). */
+    private static boolean isGap(char c) {
+        switch (c) {
+            case '\u00A0': // no-break space
+            case '\u061C': // arabic letter mark
+            case '\u200E': // left-to-right mark
+            case '\u200F': // right-to-left mark
+            case '\u202A':
+            case '\u202B':
+            case '\u202C':
+            case '\u202D':
+            case '\u202E': // embeddings and overrides
+            case '\u2066':
+            case '\u2067':
+            case '\u2068':
+            case '\u2069': // isolates
+                return true;
+            default:
+                return Character.isWhitespace(c);
+        }
+    }
+
+    /** Length of a "סה"כ" marker at the index (ASCII quote, gershayim or apostrophe), or 0. */
+    private static int totalMarkerLength(CharSequence text, int i) {
+        if (i + 3 >= text.length() || text.charAt(i + 1) != 'ה') return 0;
+        char quote = text.charAt(i + 2);
+        if (quote != '"' && quote != '\u05F4' && quote != '\'' && quote != '\u201D') return 0;
+        return text.charAt(i + 3) == 'כ' ? 4 : 0;
+    }
+
+    private static boolean regionMatches(CharSequence text, int offset, String word) {
+        if (offset + word.length() > text.length()) return false;
+        for (int k = 0; k < word.length(); k++) {
+            if (text.charAt(offset + k) != word.charAt(k)) return false;
+        }
+        return true;
+    }
+}
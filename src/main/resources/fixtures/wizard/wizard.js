@@ -0,0 +1,217 @@
+/*
+ * Minimal behaviour of the travel-policy wizard for offline runs.
+ * Each wizard step is a full page load (the URL changes like on the live site); state is kept in sessionStorage.
+ */
+(function () {
+    var BASE = '/travel-policy';
+    var path = location.pathname.replace(/\/+$/, '');
+    var stepId = 'landing';
+    if (path === BASE + '/wizard/destination') stepId = 'destination';
+    else if (path === BASE + '/wizard/date') stepId = 'date';
+    else if (path.indexOf(BASE + '/wizard/') === 0) stepId = 'details';
+
+    // Only the active step stays in the DOM, so shared hooks (general_error, screen_title) are unique
+    Array.prototype.forEach.call(document.querySelectorAll('section.step'), function (section) {
+        if (section.id === 'step-' + stepId) {
+            section.classList.add('active');
+        } else {
+            section.parentNode.removeChild(section);
+        }
+    });
+
+    function go(step) {
+        location.href = BASE + (step ? '/wizard/' + step : '');
+    }
+
+    function showError(text) {
+        var err = document.querySelector('[data-hrl-bo="general_error"]');
+        err.textContent = text;
+        err.hidden = false;
+    }
+
+    function hideError() {
+        var err = document.querySelector('[data-hrl-bo="general_error"]');
+        if (err) err.hidden = true;
+    }
+
+    // Simulated server latency for navigation-triggering clicks (ms), configurable with ?latency=
+    var latency = parseInt(sessionStorage.getItem('fixture.latency') || '0', 10);
+    var m = /[?&]latency=(\d+)/.exec(location.search);
+    if (m) {
+        latency = parseInt(m[1], 10);
+        sessionStorage.setItem('fixture.latency', String(latency));
+    }
+
+    function later(fn) {
+        if (latency > 0) setTimeout(fn, latency); else fn();
+    }
+
+    if (stepId === 'landing') {
+        document.querySelector('[data-hrl-bo="purchase-for-new-customer"]').addEventListener('click', function () {
+            sessionStorage.removeItem('wizard.region');
+            later(function () { go('destination'); });
+        });
+    }
+
+    if (stepId === 'destination') {
+        var next = document.querySelector('[data-hrl-bo="wizard-next-button"]');
+        var popup = document.getElementById('antarctica-warning');
+        var selected = null;
+
+        function setNextEnabled(enabled) {
+            next.classList.toggle('disabled', !enabled);
+            next.setAttribute('aria-disabled', enabled ? 'false' : 'true');
+        }
+
+        Array.prototype.forEach.call(document.querySelectorAll('.tile'), function (tile) {
+            tile.addEventListener('click', function () {
+                Array.prototype.forEach.call(document.querySelectorAll('.tile'), function (t) { t.classList.remove('selected'); });
+                tile.classList.add('selected');
+                selected = tile.getAttribute('data-region');
+                hideError();
+                setNextEnabled(true);
+                popup.hidden = selected !== 'antarctica';
+            });
+        });
+
+        document.querySelector('[data-hrl-bo="warningPopup-yes-button"]').addEventListener('click', function () {
+            popup.hidden = true;
+            selected = null;
+            Array.prototype.forEach.call(document.querySelectorAll('.tile'), function (t) { t.classList.remove('selected'); });
+            setNextEnabled(false);
+        });
+
+        next.addEventListener('click', function () {
+            if (!selected || selected === 'antarctica') {
+                showError('שכחת לבחור יעד מרוב התרגשות? נא לסמן אחד');
+                return;
+            }
+            sessionStorage.setItem('wizard.region', selected);
+            later(function () { go('date'); });
+        });
+    }
+
+    if (stepId === 'date') {
+        if (!sessionStorage.getItem('wizard.region')) {
+            go('destination');
+            return;
+        }
+        var startInput = document.getElementById('travel_start_date');
+        var endInput = document.getElementById('travel_end_date');
+        var nextBtn = document.getElementById('nextButton');
+        var summary = document.getElementById('days-summary');
+        var monthsEl = document.getElementById('months');
+        var today = new Date();
+        var shown = { y: today.getFullYear(), m: today.getMonth() };
+        var start = null;
+        var end = null;
+
+        function pad(n) { return (n < 10 ? '0' : '') + n; }
+        function iso(d) { return d.getUTCFullYear() + '-' + pad(d.getUTCMonth() + 1) + '-' + pad(d.getUTCDate()); }
+        function ui(d) { return pad(d.getUTCDate()) + '/' + pad(d.getUTCMonth() + 1) + '/' + d.getUTCFullYear(); }
+        function parseUi(s) {
+            var p = /^(\d{2})\/(\d{2})\/(\d{4})$/.exec((s || '').trim());
+            return p ? new Date(Date.UTC(+p[3], +p[2] - 1, +p[1])) : null;
+        }
+        function parseIso(s) {
+            var p = /^(\d{4})-(\d{2})-(\d{2})$/.exec(s);
+            return p ? new Date(Date.UTC(+p[1], +p[2] - 1, +p[3])) : null;
+        }
+
+        function update() {
+            startInput.value = start ? ui(start) : '';
+            endInput.value = end ? ui(end) : '';
+            if (start && end && end >= start) {
+                // Inclusive count: both the departure and the return day are insured
+                var days = Math.round((end - start) / 86400000) + 1;
+                summary.textContent = 'סה"כ: ' + days + ' ימים';
+            } else {
+                summary.textContent = '';
+            }
+            render();
+        }
+
+        function render() {
+            monthsEl.innerHTML = '';
+            for (var k = 0; k < 2; k++) {
+                var first = new Date(Date.UTC(shown.y, shown.m + k, 1));
+                var month = document.createElement('div');
+                month.className = 'month';
+                var title = document.createElement('div');
+                title.className = 'month-title';
+                title.setAttribute('data-month', first.getUTCFullYear() + '-' + pad(first.getUTCMonth() + 1));
+                title.textContent = pad(first.getUTCMonth() + 1) + '/' + first.getUTCFullYear();
+                month.appendChild(title);
+                var grid = document.createElement('div');
+                grid.className = 'month-grid';
+                for (var d = new Date(first); d.getUTCMonth() === first.getUTCMonth(); d = new Date(d.getTime() + 86400000)) {
+                    var b = document.createElement('button');
+                    b.type = 'button';
+                    b.setAttribute('data-hrl-bo', iso(d));
+                    b.textContent = String(d.getUTCDate());
+                    var isSelected = (start && iso(start) === iso(d)) || (end && iso(end) === iso(d));
+                    if (isSelected) {
+                        b.className = 'Mui-selected';
+                        b.setAttribute('aria-selected', 'true');
+                    }
+                    grid.appendChild(b);
+                }
+                month.appendChild(grid);
+                monthsEl.appendChild(month);
+            }
+        }
+
+        monthsEl.addEventListener('click', function (e) {
+            var target = e.target.closest('button[data-hrl-bo]');
+            if (!target) return;
+            var d = parseIso(target.getAttribute('data-hrl-bo'));
+            if (!start || end) {
+                start = d;
+                end = null;
+            } else {
+                end = d;
+            }
+            hideError();
+            update();
+        });
+
+        Array.prototype.forEach.call(document.querySelectorAll('[data-hrl-bo="arrow-forward"]'), function (a) {
+            a.addEventListener('click', function () { shown.m += 1; normalise(); render(); });
+        });
+        Array.prototype.forEach.call(document.querySelectorAll('[data-hrl-bo="arrow-back"]'), function (a) {
+            a.addEventListener('click', function () { shown.m -= 1; normalise(); render(); });
+        });
+        function normalise() {
+            var n = new Date(Date.UTC(shown.y, shown.m, 1));
+            shown.y = n.getUTCFullYear();
+            shown.m = n.getUTCMonth();
+        }
+
+        function fromInputs() {
+            start = parseUi(startInput.value);
+            end = parseUi(endInput.value);
+            if (start) { shown.y = start.getUTCFullYear(); shown.m = start.getUTCMonth(); }
+            hideError();
+            // Rewrite values only when complete so typing is not interrupted
+            if ((startInput.value === '' || start) && (endInput.value === '' || end)) update();
+        }
+        startInput.addEventListener('change', fromInputs);
+        endInput.addEventListener('change', fromInputs);
+        startInput.addEventListener('input', function () { if (parseUi(startInput.value)) fromInputs(); });
+        endInput.addEventListener('input', function () { if (parseUi(endInput.value)) fromInputs(); });
+
+        nextBtn.addEventListener('click', function () {
+            if (!start || !end) {
+                showError('סליחה, אבל כדי שנתקדם צריך למלא פרטים');
+                return;
+            }
+            if (end < start) {
+                showError('תאריך החזרה לא יכול להיות לפני תאריך היציאה');
+                return;
+            }
+            later(function () { go('details'); });
+        });
+
+        update();
+    }
+})();
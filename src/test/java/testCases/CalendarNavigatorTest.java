@@ -0,0 +1,118 @@
+package testCases;
+
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import pagesObject.components.CalendarNavigator;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Month arithmetic of the date picker navigation, and the navigation itself against a picker simulated on a
+ * {@link StubBrowser} (no browser needed).
+ */
+public class CalendarNavigatorTest {
+    private final List<YearMonth> shown = List.of(YearMonth.of(2026, 11), YearMonth.of(2026, 12));
+
+    /** Two months shown; a script click on an arrow moves them by one month, as the site's picker does. */
+    private static final class StubPicker {
+        final StubBrowser browser = new StubBrowser();
+        final List<String> clicked = Collections.synchronizedList(new ArrayList<>());
+        final List<Object> lookupTags = Collections.synchronizedList(new ArrayList<>());
+        final WebElement labelledForward1 = browser.element("forward 1", Map.of("aria-label", "לעבור לחודש הבא"));
+        final WebElement labelledForward2 = browser.element("forward 2", Map.of("aria-label", "לעבור לחודש הבא"));
+        final WebElement back = browser.element("back", Map.of());
+        volatile YearMonth first;
+
+        StubPicker(YearMonth first) {
+            this.first = first;
+            browser.onScript((script, args) -> {
+                if (script.contains("data-month")) {
+                    return List.of(this.first.toString(), this.first.plusMonths(1).toString());
+                }
+                if (script.contains("__hrlBoIndex")) {
+                    lookupTags.add(args[1]);
+                    Map<String, Object> found = new HashMap<>();
+                    for (Object key : (List<?>) args[0]) found.put((String) key, hooked((String) key));
+                    return found;
+                }
+                if (script.equals("arguments[0].click();")) {
+                    clicked.add(args[0].toString());
+                    if (args[0] == labelledForward2) this.first = this.first.plusMonths(1);
+                    if (args[0] == back) this.first = this.first.minusMonths(1);
+                }
+                return null;
+            });
+        }
+
+        private List<WebElement> hooked(String key) {
+            if (key.equals("arrow-forward")) return List.of(labelledForward1, labelledForward2);
+            if (key.equals("arrow-back")) return List.of(back);
+            YearMonth month = YearMonth.from(LocalDate.parse(key));
+            return month.equals(first) || month.equals(first.plusMonths(1))
+                    ? List.of(browser.element("day " + key, Map.of())) : List.of();
+        }
+    }
+
+    @Test
+    public void targetAlreadyShown_needsNoClicks() {
+        Assert.assertEquals(CalendarNavigator.monthDelta(shown, YearMonth.of(2026, 12)), 0);
+        Assert.assertEquals(CalendarNavigator.monthDelta(List.of(), YearMonth.of(2027, 3)), 0, "Picker closed");
+    }
+
+    @Test
+    public void laterTarget_advancesPastTheLastShownMonth_acrossTheYear() {
+        Assert.assertEquals(CalendarNavigator.monthDelta(shown, YearMonth.of(2027, 3)), 3);
+        Assert.assertEquals(CalendarNavigator.monthDelta(shown, YearMonth.of(2028, 1)), 13);
+    }
+
+    @Test
+    public void earlierTarget_goesBackFromTheFirstShownMonth() {
+        Assert.assertEquals(CalendarNavigator.monthDelta(shown, YearMonth.of(2026, 10)), -1);
+        Assert.assertEquals(CalendarNavigator.monthDelta(shown, YearMonth.of(2025, 12)), -11);
+    }
+
+    @Test
+    public void showDay_clicksTheSecondLabelledForwardArrow_oncePerMonth() {
+        StubPicker picker = new StubPicker(YearMonth.of(2026, 11));
+        WebElement day = new CalendarNavigator(picker.browser.driver).showDay(LocalDate.of(2027, 3, 10));
+
+        Assert.assertNotNull(day, "Day not shown");
+        Assert.assertEquals(day.toString(), "day 2027-03-10");
+        Assert.assertEquals(picker.clicked, List.of("forward 2", "forward 2", "forward 2"));
+        Assert.assertEquals(picker.first, YearMonth.of(2027, 2));
+    }
+
+    @Test
+    public void showDay_goesBackwards() {
+        StubPicker picker = new StubPicker(YearMonth.of(2026, 11));
+        WebElement day = new CalendarNavigator(picker.browser.driver).showDay(LocalDate.of(2026, 9, 5));
+
+        Assert.assertNotNull(day, "Day not shown");
+        Assert.assertEquals(picker.clicked, List.of("back", "back"));
+    }
+
+    @Test
+    public void hookLookups_areRestrictedToButtons() {
+        StubPicker picker = new StubPicker(YearMonth.of(2026, 11));
+        new CalendarNavigator(picker.browser.driver).showDay(LocalDate.of(2027, 1, 4));
+
+        Assert.assertFalse(picker.lookupTags.isEmpty());
+        for (Object tag : picker.lookupTags) {
+            Assert.assertEquals(tag, "button");
+        }
+    }
+
+    @Test
+    public void targetBeyondThePickerRange_isNotAttempted() {
+        StubPicker picker = new StubPicker(YearMonth.of(2026, 11));
+        Assert.assertNull(new CalendarNavigator(picker.browser.driver).showDay(LocalDate.of(2030, 1, 1)));
+        Assert.assertTrue(picker.clicked.isEmpty(), "Clicked " + picker.clicked);
+    }
+}
@@ -0,0 +1,201 @@
+package testCases;
+
+import ActionDriver.CommandBudget;
+import ActionDriver.CommandBudgetListener;
+import ActionDriver.CommandProfiler;
+import ActionDriver.WaitEngine;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.ITestClass;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+import org.testng.internal.ConstructorOrMethod;
+import org.testng.internal.TestResult;
+import pagesObject.components.DateSection;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Command counting through the decorated driver and budget enforcement, against a {@link StubBrowser} (no browser
+ * needed). Counts are kept per test invocation, so the tests can run in parallel.
+ */
+public class CommandProfilerTest {
+    /** Locator the driver cannot send itself: tries two ids, like a fallback chain. */
+    private static final class TwoIds extends By {
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            List<WebElement> found = context.findElements(By.id("travel_start_date"));
+            return found.isEmpty() ? context.findElements(By.name("start")) : found;
+        }
+    }
+
+    /** Budgets judged by {@link #judge}; the methods are never called. */
+    static final class Budgeted {
+        @CommandBudget(max = 2, methods = "getStartValue")
+        void startDateBudget() {}
+
+        @CommandBudget(max = 2, methods = "getEndValue")
+        void endDateBudget() {}
+    }
+
+    private static ITestResult current() {
+        return Reporter.getCurrentTestResult();
+    }
+
+    @Test
+    public void roundTrips_areCounted_localCallsAreNot() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        WebElement input = driver.findElement(By.id("travel_start_date"));
+        input.click();
+        ((JavascriptExecutor) driver).executeScript("return 1");
+        driver.manage();
+        input.toString();
+
+        Assert.assertEquals(browser.commands.get(), 3);
+        Assert.assertEquals(CommandProfiler.commands(current()), 3);
+    }
+
+    @Test
+    public void timeoutSettings_areCounted_theirAccessorsAreNot() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+
+        Assert.assertEquals(CommandProfiler.commands(current()), 2);
+    }
+
+    @Test
+    public void wait_switchesTheImplicitWaitOffOnce_forAllItsPolls() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        AtomicInteger polls = new AtomicInteger();
+        WaitEngine.of(driver).forSeconds(5).until(d -> {
+            List<WebElement> found = WaitEngine.of(d).findAllNow(By.id("travel_start_date"));
+            return polls.incrementAndGet() < 3 ? null : found;
+        });
+
+        Assert.assertEquals(browser.lookups.get(), 3);
+        Assert.assertEquals(CommandProfiler.commands(current()), 5, "3 lookups and 2 implicit wait settings");
+    }
+
+    @Test
+    public void customLocator_countsEveryCommandItIssues() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        driver.findElements(new TwoIds());
+        driver.findElements(new TwoIds()).forEach(WebElement::isDisplayed);
+
+        Assert.assertEquals(browser.commands.get(), 3);
+        Assert.assertEquals(CommandProfiler.commands(current()), 3);
+    }
+
+    @Test
+    public void budgetMethods_countOnlyThosePageObjectMethods() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        driver.findElement(By.id("nextButton")).click();
+
+        Assert.assertEquals(CommandProfiler.commands(current(), "clickNextAndWaitForDate"), 0);
+        Assert.assertEquals(CommandProfiler.commands(current()), 2);
+        Assert.assertTrue(CommandProfiler.breakdown(current()).startsWith("(test) 2"), CommandProfiler.breakdown(current()));
+    }
+
+    /**
+     * Runs the body as an invocation of the Budgeted method with its own ITestResult (so the commands are counted
+     * for it) and lets the listener judge it as it does after a passing test.
+     */
+    private static ITestResult judge(String budgetMethod, Runnable body) throws NoSuchMethodException {
+        Method method = Budgeted.class.getDeclaredMethod(budgetMethod);
+        ITestClass testClass = (ITestClass) Proxy.newProxyInstance(CommandProfilerTest.class.getClassLoader(),
+                new Class<?>[] {ITestClass.class}, (proxy, m, args) -> {
+                    switch (m.getName()) {
+                        case "getName": return Budgeted.class.getName();
+                        case "getRealClass": return Budgeted.class;
+                        default: return defaultValue(m.getReturnType());
+                    }
+                });
+        ITestNGMethod testMethod = (ITestNGMethod) Proxy.newProxyInstance(CommandProfilerTest.class.getClassLoader(),
+                new Class<?>[] {ITestNGMethod.class}, (proxy, m, args) -> {
+                    switch (m.getName()) {
+                        case "getConstructorOrMethod": return new ConstructorOrMethod(method);
+                        case "getRealClass": return Budgeted.class;
+                        case "getTestClass": return testClass;
+                        case "getMethodName": return budgetMethod;
+                        case "isTest": return true;
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        case "toString": return budgetMethod;
+                        default: return defaultValue(m.getReturnType());
+                    }
+                });
+        IInvokedMethod invoked = (IInvokedMethod) Proxy.newProxyInstance(CommandProfilerTest.class.getClassLoader(),
+                new Class<?>[] {IInvokedMethod.class}, (proxy, m, args) -> {
+                    switch (m.getName()) {
+                        case "isTestMethod": return true;
+                        case "getTestMethod": return testMethod;
+                        default: return defaultValue(m.getReturnType());
+                    }
+                });
+        ITestResult result = TestResult.newTestResultFor(testMethod);
+        CommandBudgetListener listener = new CommandBudgetListener();
+        ITestResult outer = Reporter.getCurrentTestResult();
+        try {
+            listener.beforeInvocation(invoked, result);
+            Reporter.setCurrentTestResult(result);
+            body.run();
+        } finally {
+            Reporter.setCurrentTestResult(outer);
+        }
+        result.setStatus(ITestResult.SUCCESS);
+        listener.afterInvocation(invoked, result);
+        return result;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+
+    @Test
+    public void overBudget_failsThePassingTest() throws NoSuchMethodException {
+        ITestResult result = judge("startDateBudget", () -> {
+            DateSection dates = new DateSection(CommandProfiler.wrap(new StubBrowser().driver));
+            dates.getStartValue();
+            dates.getStartValue();
+        });
+
+        Assert.assertTrue(CommandProfiler.commands(result, "getStartValue") > 2, CommandProfiler.breakdown(result));
+        Assert.assertEquals(result.getStatus(), ITestResult.FAILURE);
+        Assert.assertTrue(result.getThrowable().getMessage().startsWith("Command budget exceeded"),
+                result.getThrowable().getMessage());
+        Assert.assertTrue(result.getThrowable().getMessage().contains("DateSection.getStartValue"),
+                result.getThrowable().getMessage());
+    }
+
+    @Test
+    public void commandsOutsideTheBudgetedMethods_doNotCount() throws NoSuchMethodException {
+        ITestResult result = judge("endDateBudget", () -> {
+            DateSection dates = new DateSection(CommandProfiler.wrap(new StubBrowser().driver));
+            dates.getStartValue();
+            dates.getStartValue();
+        });
+
+        Assert.assertEquals(CommandProfiler.commands(result, "getEndValue"), 0);
+        Assert.assertEquals(result.getStatus(), ITestResult.SUCCESS);
+    }
+}
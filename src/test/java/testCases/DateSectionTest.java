@@ -1,23 +1,32 @@
 package testCases;
 
 import Base.BaseClass;
+import Base.WizardSnapshot;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import pagesObject.DestinationPage;
-import pagesObject.TravelPolicyPage;
 import pagesObject.components.DateSection;
 import utils.DateUtils;
 
 import java.time.LocalDate;
 
 public class DateSectionTest extends BaseClass {
+    private static final String DATE_STEP_EUROPE = "date-step-europe";
+    /** How the selected Europe region can appear in the restored wizard state (id or tile label). */
+    private static final String[] EUROPE = {"europe", "אירופה"};
 
     private DateSection openDateSectionWithEurope() {
-        TravelPolicyPage policyPage = new TravelPolicyPage(driver).open();
-        DestinationPage destinationPage = policyPage.clickPurchaseForNewCustomer();
+        // Deep-link into the date step when a snapshot is available (wizard.snapshots=true)
+        if (restoreWizardState(DATE_STEP_EUROPE)) {
+            DateSection restored = new DateSection(getDriver());
+            if (restored.isAt() && WizardSnapshot.storageContains(getDriver(), EUROPE)) return restored;
+            rejectWizardState(DATE_STEP_EUROPE);
+        }
+        DestinationPage destinationPage = openDestinationStep();
         Assert.assertTrue(destinationPage.isAt(), "Not on destination step");
         Assert.assertTrue(destinationPage.clickEurope(), "Failed to click Europe tile");
         Assert.assertTrue(destinationPage.clickNextAndWaitForDate(), "Did not navigate to date step");
+        captureWizardState(DATE_STEP_EUROPE);
         return destinationPage.getDateSection();
     }
 
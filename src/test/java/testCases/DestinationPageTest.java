@@ -1,29 +1,29 @@
 package testCases;
 
+import ActionDriver.CommandBudget;
 import Base.BaseClass;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import pagesObject.DestinationPage;
-import pagesObject.TravelPolicyPage;
 import utils.DateUtils;
 
 public class DestinationPageTest extends BaseClass {
 
     private DestinationPage openDestination() {
-        TravelPolicyPage policyPage = new TravelPolicyPage(driver).open();
-        DestinationPage destinationPage = policyPage.clickPurchaseForNewCustomer();
+        DestinationPage destinationPage = openDestinationStep();
         Assert.assertTrue(destinationPage.isAt(), "Not on destination step");
         return destinationPage;
     }
 
     @Test
+    @CommandBudget(max = 40, methods = {"clickEurope", "clickNextAndWaitForDate"})
     public void selectEurope_andProceedToDate() {
         DestinationPage destinationPage = openDestination();
         boolean clicked = destinationPage.clickEurope();
         Assert.assertTrue(clicked, "Failed to click Europe tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (Europe) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (Europe) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -33,7 +33,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click Asia tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (Asia) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (Asia) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -43,7 +43,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click Africa tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (Africa) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (Africa) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -53,7 +53,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click South America tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (South America) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (South America) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -63,7 +63,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click Australia tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (Australia) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (Australia) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -74,7 +74,7 @@ public class DestinationPageTest extends BaseClass {
         boolean acknowledged = destinationPage.acknowledgeAntarcticaWarning();
         Assert.assertTrue(acknowledged, "Warning acknowledgement failed or URL did not return to destination");
         Assert.assertTrue(destinationPage.isAt(), "Not on destination after acknowledging Antarctica warning");
-        System.out.println("After Antarctica warning URL: " + driver.getCurrentUrl());
+        System.out.println("After Antarctica warning URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -84,7 +84,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click Canada tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (Canada) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (Canada) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     @Test
@@ -94,7 +94,7 @@ public class DestinationPageTest extends BaseClass {
         Assert.assertTrue(clicked, "Failed to click USA tile");
         boolean movedToDate = destinationPage.clickNextAndWaitForDate();
         Assert.assertTrue(movedToDate, "Did not navigate to date step");
-        System.out.println("Destination (USA) -> Date URL: " + driver.getCurrentUrl());
+        System.out.println("Destination (USA) -> Date URL: " + getDriver().getCurrentUrl());
     }
 
     //setDefaultDates
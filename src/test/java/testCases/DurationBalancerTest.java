@@ -0,0 +1,140 @@
+package testCases;
+
+import Base.DurationBalancer;
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+import utils.TestDurations;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Longest-first packing of tests onto workers, and the durations it is based on (no browser needed).
+ */
+public class DurationBalancerTest {
+
+    private static long load(List<Long> worker) {
+        return worker.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Test
+    public void slowTests_goToDifferentWorkers_andLoadsEvenOut() {
+        List<Long> durations = Arrays.asList(5L, 90L, 10L, 80L, 20L, 30L, 15L, 25L);
+        List<List<Long>> workers = DurationBalancer.pack(durations, Long::longValue, 3);
+
+        Assert.assertEquals(workers.get(0).get(0), Long.valueOf(90));
+        Assert.assertEquals(workers.get(1).get(0), Long.valueOf(80));
+        Assert.assertEquals(workers.get(2), Arrays.asList(30L, 25L, 20L, 15L));
+        long max = Math.max(load(workers.get(0)), Math.max(load(workers.get(1)), load(workers.get(2))));
+        Assert.assertEquals(max, 95);
+    }
+
+    @Test
+    public void singleWorker_getsEverythingLongestFirst() {
+        List<List<Long>> workers = DurationBalancer.pack(Arrays.asList(1L, 3L, 2L), Long::longValue, 1);
+        Assert.assertEquals(workers.size(), 1);
+        Assert.assertEquals(workers.get(0), Arrays.asList(3L, 2L, 1L));
+    }
+
+    @Test
+    public void durations_persist_andUnknownTestsGetTheMedian() throws Exception {
+        Path file = Files.createTempFile("test-durations", ".properties");
+        try {
+            TestDurations durations = new TestDurations();
+            durations.record("DateSectionTest.slow", 60_000);
+            durations.record("DateSectionTest.medium", 20_000);
+            durations.record("DestinationPageTest.fast", 5_000);
+            durations.save(file);
+
+            TestDurations loaded = TestDurations.load(file);
+            Assert.assertEquals(loaded.estimate("DateSectionTest.slow"), 60_000);
+            Assert.assertEquals(loaded.estimate("NewTest.method"), 20_000);
+
+            loaded.record("DateSectionTest.slow", 30_000);
+            Assert.assertEquals(loaded.estimate("DateSectionTest.slow"), 51_000);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** Proxy answering the named getters; everything else returns null. */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Object... namesAndValues) {
+        return (T) Proxy.newProxyInstance(DurationBalancerTest.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    for (int i = 0; i < namesAndValues.length; i += 2) {
+                        if (namesAndValues[i].equals(method.getName())) return namesAndValues[i + 1];
+                    }
+                    switch (method.getName()) {
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: return null;
+                    }
+                });
+    }
+
+    /** Methods of a &lt;test&gt;, all in class DateSectionTest. */
+    private static List<IMethodInstance> methods(String... names) {
+        List<IMethodInstance> methods = new ArrayList<>();
+        for (String name : names) {
+            ITestNGMethod method = stub(ITestNGMethod.class, "getRealClass", DateSectionTest.class,
+                    "getMethodName", name);
+            methods.add(stub(IMethodInstance.class, "getMethod", method));
+        }
+        return methods;
+    }
+
+    private static Set<String> names(List<IMethodInstance> methods) {
+        return methods.stream().map(m -> m.getMethod().getMethodName()).collect(Collectors.toSet());
+    }
+
+    /** Reports each method of the slice as passed after the given time. */
+    private static void finish(DurationBalancer shard, List<IMethodInstance> slice, long millis) {
+        for (IMethodInstance m : slice) {
+            shard.onTestSuccess(stub(ITestResult.class, "getMethod", m.getMethod(), "getStartMillis", 0L,
+                    "getEndMillis", millis));
+        }
+    }
+
+    @Test
+    public void shards_sliceEveryTestAlike_whateverTheyRecordedBefore() {
+        TestDurations known = new TestDurations();
+        known.record("DateSectionTest.a1", 4_000);
+        known.record("DateSectionTest.a2", 3_000);
+        known.record("DateSectionTest.a3", 2_000);
+        known.record("DateSectionTest.a4", 1_000);
+        known.record("DateSectionTest.b1", 2_500);
+        ITestContext first = stub(ITestContext.class, "getName", "Destination Flow and Date Step");
+        ITestContext second = stub(ITestContext.class, "getName", "Framework Checks");
+        DurationBalancer shard0 = new DurationBalancer(known, 0, 2);
+        DurationBalancer shard1 = new DurationBalancer(known, 1, 2);
+
+        // The first <test> runs: shard 0 finds its methods slow, shard 1 fast, which moves any median they use
+        List<IMethodInstance> a0 = shard0.intercept(methods("a1", "a2", "a3", "a4"), first);
+        List<IMethodInstance> a1 = shard1.intercept(methods("a1", "a2", "a3", "a4"), first);
+        finish(shard0, a0, 60_000);
+        finish(shard1, a1, 10);
+
+        String[] secondTest = {"b1", "u1", "u2", "u3", "u4", "u5"};
+        Set<String> b0 = names(shard0.intercept(methods(secondTest), second));
+        Set<String> b1 = names(shard1.intercept(methods(secondTest), second));
+
+        Set<String> overlap = new HashSet<>(b0);
+        overlap.retainAll(b1);
+        Set<String> covered = new HashSet<>(b0);
+        covered.addAll(b1);
+        Assert.assertTrue(overlap.isEmpty(), "run on both shards: " + overlap);
+        Assert.assertEquals(covered, new HashSet<>(Arrays.asList(secondTest)));
+    }
+}
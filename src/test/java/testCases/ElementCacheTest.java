@@ -0,0 +1,63 @@
+package testCases;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import pagesObject.support.ElementCache;
+
+/**
+ * Cached element handles against a {@link StubBrowser} that counts lookups (no browser needed).
+ */
+public class ElementCacheTest {
+    @Test
+    public void repeatedUse_doesNotLookTheElementUpAgain() {
+        StubBrowser browser = new StubBrowser();
+        ElementCache cache = new ElementCache(browser.driver);
+        WebElement first = cache.visible(By.id("travel_start_date"), 1);
+        WebElement second = cache.visible(By.id("travel_start_date"), 1);
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(browser.lookups.get(), 1);
+        Assert.assertSame(((WrapsElement) first).getWrappedElement(), browser.element);
+    }
+
+    @Test
+    public void staleHandle_isResolvedAgainAndTheCallRetried() {
+        StubBrowser browser = new StubBrowser();
+        ElementCache cache = new ElementCache(browser.driver);
+        WebElement input = cache.visible(By.id("travel_end_date"), 1);
+        browser.goStale.set(true);
+
+        Assert.assertEquals(input.getAttribute("value"), "12/05/2026");
+        Assert.assertEquals(browser.lookups.get(), 2);
+        Assert.assertTrue(ElementCache.report().contains("By.id: travel_end_date"), ElementCache.report());
+    }
+
+    @Test
+    public void staleHandlePassedToAScript_isResolvedAgainAndTheScriptRetried() {
+        StubBrowser browser = new StubBrowser();
+        ElementCache cache = new ElementCache(browser.driver);
+        WebElement input = cache.visible(By.id("travel_start_date"), 1);
+        browser.goStale.set(true);
+
+        ElementCache.withFresh(input, el -> ((JavascriptExecutor) browser.driver)
+                .executeScript("arguments[0].scrollIntoView({block: 'center'});", el));
+
+        Assert.assertEquals(browser.lookups.get(), 2);
+        Assert.assertEquals(browser.scripts.size(), 1);
+    }
+
+    @Test
+    public void stepChange_dropsTheHandles() {
+        StubBrowser browser = new StubBrowser();
+        ElementCache cache = new ElementCache(browser.driver);
+        cache.visible(By.id("nextButton"), 1);
+        cache.stepChanged();
+        cache.visible(By.id("nextButton"), 1);
+
+        Assert.assertEquals(browser.lookups.get(), 2);
+    }
+}
@@ -0,0 +1,103 @@
+package testCases;
+
+import ActionDriver.CommandProfiler;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import pagesObject.support.LocatorChain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Ordering, statistics and round trips of fallback locator chains, against stub search contexts (no browser needed).
+ */
+public class LocatorChainTest {
+
+    /** Matches only the locators in the given map and logs every lookup. */
+    private static final class StubContext implements SearchContext {
+        final Map<By, List<WebElement>> matches;
+        final List<By> lookups = new ArrayList<>();
+
+        StubContext(Map<By, List<WebElement>> matches) {
+            this.matches = matches;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            lookups.add(by);
+            return matches.getOrDefault(by, Collections.emptyList());
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            List<WebElement> found = findElements(by);
+            if (found.isEmpty()) throw new NoSuchElementException(by.toString());
+            return found.get(0);
+        }
+    }
+
+    private final List<String> chainNames = new CopyOnWriteArrayList<>();
+
+    private String uniqueName() {
+        String name = "test chain " + UUID.randomUUID();
+        chainNames.add(name);
+        return name;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void discardTestChains() {
+        chainNames.forEach(LocatorChain::discardStats);
+    }
+
+    @Test
+    public void withoutHistory_alternativesAreTriedInDeclaredOrder() {
+        By first = By.id("a");
+        By second = By.name("b");
+        LocatorChain chain = LocatorChain.of(uniqueName(), first, second);
+        StubContext context = new StubContext(Map.of(second, List.of(new RemoteWebElement())));
+
+        Assert.assertEquals(chain.findElements(context).size(), 1);
+        Assert.assertEquals(context.lookups, List.of(first, second));
+    }
+
+    @Test
+    public void alternativeThatKeepsMatching_movesToTheFront() {
+        By stale = By.id("old");
+        By current = By.cssSelector(".new");
+        LocatorChain chain = LocatorChain.of(uniqueName(), stale, current);
+        StubContext context = new StubContext(Map.of(current, List.of(new RemoteWebElement())));
+
+        chain.findElements(context);
+        Assert.assertEquals(chain.currentOrder(), List.of(current, stale));
+        context.lookups.clear();
+        chain.findElement(context);
+        Assert.assertEquals(context.lookups, List.of(current), "The dead locator is no longer tried first");
+        Assert.assertTrue(LocatorChain.report().contains("DEAD  " + chain.name()), LocatorChain.report());
+    }
+
+    @Test
+    public void firstAlternativeMatching_costsOneRoundTrip_noImplicitWaitToggle() {
+        StubBrowser browser = new StubBrowser();
+        WebDriver driver = CommandProfiler.wrap(browser.driver);
+        driver.findElement(LocatorChain.of(uniqueName(), By.id("a"), By.name("b")));
+
+        Assert.assertEquals(CommandProfiler.commands(Reporter.getCurrentTestResult()), 1);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void noAlternativeMatching_findElementThrows() {
+        LocatorChain.of(uniqueName(), By.id("x"), By.id("y")).findElement(new StubContext(Map.of()));
+    }
+}
@@ -0,0 +1,32 @@
+package testCases;
+
+import Base.ResourceBlocker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * ResourceBlocker URL matching (no browser needed).
+ */
+public class ResourceBlockerRulesTest {
+    private static final String BASE_URL = "http://127.0.0.1:8080";
+
+    @Test
+    public void allowlist_winsOverBlocklist() {
+        ResourceBlocker rules = ResourceBlocker.fromSettings("block", "*/tracker/*,*.woff2*", "*/tracker/allowed.js");
+        for (String url : Arrays.asList(BASE_URL + "/tracker/pixel.js", "https://cdn.example/font.woff2?v=3")) {
+            Assert.assertNotNull(rules.match(url), "Expected to block " + url);
+        }
+        Assert.assertNull(rules.match(BASE_URL + "/tracker/allowed.js"), "Allowlisted URL was matched");
+        Assert.assertNull(rules.match(BASE_URL + "/app.js"), "First-party URL was matched");
+    }
+
+    @Test
+    public void defaultBlocklist_coversBothFontFormats() {
+        ResourceBlocker rules = ResourceBlocker.fromSettings("block", "", "");
+        Assert.assertEquals(rules.match("https://cdn.example/font.woff2?v=3"), "*.woff*");
+        Assert.assertEquals(rules.match("https://cdn.example/font.woff"), "*.woff*");
+        Assert.assertNull(rules.match(BASE_URL + "/app.js"), "First-party URL was matched");
+    }
+}
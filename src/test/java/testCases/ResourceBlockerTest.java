@@ -0,0 +1,101 @@
+package testCases;
+
+import Base.BaseClass;
+import Base.ResourceBlocker;
+import Base.ReuseScope;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.remote.http.Filter;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies DevTools resource blocking against a local HTTP server: the page loads one first-party
+ * script and two "tracker" scripts, one of which is allowlisted.
+ */
+public class ResourceBlockerTest extends BaseClass {
+
+    private final ResourceBlocker blocker = new ResourceBlocker(ResourceBlocker.Mode.BLOCK,
+            Collections.singletonList("*/tracker/*"), Collections.singletonList("*/tracker/allowed.js"));
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serve("/", "text/html",
+                "<html><head>"
+                        + "<script src='/app.js'></script>"
+                        + "<script src='/tracker/pixel.js'></script>"
+                        + "<script src='/tracker/allowed.js'></script>"
+                        + "</head><body><h2>fixture</h2></body></html>");
+        serve("/app.js", "application/javascript", "window.appLoaded = true;");
+        serve("/tracker/pixel.js", "application/javascript", "window.pixelLoaded = true;");
+        serve("/tracker/allowed.js", "application/javascript", "window.allowedLoaded = true;");
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Override
+    protected List<Filter> networkFilters() {
+        return Collections.singletonList(blocker);
+    }
+
+    @Test
+    public void blocklistedScript_isNotRequested_andIsCounted() {
+        if (Integer.parseInt(getSetting("pool.size", "0")) > 0
+                || ReuseScope.from(getSetting("session.reuse", "none")) == ReuseScope.SUITE) {
+            throw new SkipException("Needs a browser launched with this class's network filters");
+        }
+        getDriver().get(baseUrl + "/");
+        JavascriptExecutor js = (JavascriptExecutor) getDriver();
+        Assert.assertEquals(js.executeScript("return window.appLoaded === true;"), Boolean.TRUE, "First-party script did not load");
+        Assert.assertEquals(js.executeScript("return window.allowedLoaded === true;"), Boolean.TRUE, "Allowlisted script was blocked");
+        Assert.assertEquals(js.executeScript("return window.pixelLoaded === true;"), Boolean.FALSE, "Blocklisted script was loaded");
+        Assert.assertEquals(hitCount("/tracker/pixel.js"), 0, "Blocklisted request reached the server");
+        Assert.assertEquals(blocker.blockedRequests(), 1, "Blocked request count");
+    }
+
+    private int hitCount(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private void serve(String path, String contentType, String body) {
+        server.createContext(path, exchange -> {
+            if (!exchange.getRequestURI().getPath().equals(path)) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            hits.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package testCases;
+
+import ActionDriver.ScreenshotService;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background screenshot writing and duplicate skipping against a stub driver (no browser needed).
+ * Every test uses its own frame content, so the tests can run in parallel.
+ */
+public class ScreenshotServiceTest {
+
+    /** Driver whose screenshot is the given bytes. */
+    private static WebDriver showing(byte[] frame) {
+        return (WebDriver) Proxy.newProxyInstance(ScreenshotServiceTest.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class, TakesScreenshot.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getScreenshotAs")) {
+                        return ((OutputType<?>) args[0]).convertFromBase64Png(Base64.getEncoder().encodeToString(frame));
+                    }
+                    return null;
+                });
+    }
+
+    private static byte[] uniqueFrame() {
+        return ("frame " + UUID.randomUUID()).getBytes();
+    }
+
+    @Test
+    public void capture_isWrittenInTheBackground() throws Exception {
+        byte[] frame = uniqueFrame();
+        String name = "ScreenshotServiceTest-" + UUID.randomUUID();
+        Path file = ScreenshotService.capture(showing(frame), name).get(10, TimeUnit.SECONDS);
+        try {
+            Assert.assertEquals(file, ScreenshotService.fileFor(name));
+            Assert.assertEquals(Files.readAllBytes(file), frame);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void identicalFrame_isNotWrittenAgain() throws Exception {
+        WebDriver driver = showing(uniqueFrame());
+        String first = "ScreenshotServiceTest-" + UUID.randomUUID();
+        String second = "ScreenshotServiceTest-" + UUID.randomUUID();
+        Path saved = ScreenshotService.capture(driver, first).get(10, TimeUnit.SECONDS);
+        try {
+            Path again = ScreenshotService.capture(driver, second).get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(again, saved);
+            Assert.assertFalse(Files.exists(ScreenshotService.fileFor(second)));
+        } finally {
+            Files.deleteIfExists(saved);
+        }
+    }
+}
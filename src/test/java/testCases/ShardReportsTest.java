@@ -0,0 +1,97 @@
+package testCases;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ShardReports;
+import utils.StateFiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Merging per-shard Surefire and TestNG XML into one suite, and folding per-shard .perf statistics
+ * (no browser needed).
+ */
+public class ShardReportsTest {
+
+    private static Path shard(Path root, int index, String surefire, String testng) throws Exception {
+        Path dir = Files.createDirectories(root.resolve("shard-" + index));
+        Files.write(dir.resolve("TEST-TestSuite.xml"), surefire.getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("testng-results.xml"), testng.getBytes(StandardCharsets.UTF_8));
+        return dir;
+    }
+
+    private static String testng(String method, String status) {
+        return "<testng-results total=\"1\" passed=\"" + ("PASS".equals(status) ? 1 : 0) + "\" failed=\""
+                + ("FAIL".equals(status) ? 1 : 0) + "\" skipped=\"0\" ignored=\"0\">"
+                + "<suite name=\"Suite\" duration-ms=\"100\"><test name=\"Framework Checks\" duration-ms=\"100\">"
+                + "<class name=\"testCases.StepTimingsTest\"><test-method name=\"" + method + "\" status=\""
+                + status + "\"/></class></test></suite></testng-results>";
+    }
+
+    @Test
+    public void shards_areMergedIntoOneSuite() throws Exception {
+        Path root = Files.createTempDirectory("shards");
+        Path first = shard(root, 0,
+                "<testsuite name=\"TestSuite\" tests=\"2\" failures=\"0\" errors=\"0\" skipped=\"0\" time=\"1.5\">"
+                        + "<testcase name=\"a\"/><testcase name=\"b\"/></testsuite>",
+                testng("a", "PASS"));
+        Path second = shard(root, 1,
+                "<testsuite name=\"TestSuite\" tests=\"1\" failures=\"1\" errors=\"0\" skipped=\"0\" time=\"2.25\">"
+                        + "<testcase name=\"c\"><failure message=\"boom\"/></testcase></testsuite>",
+                testng("c", "FAIL"));
+        Path out = root.resolve("surefire-reports");
+
+        Assert.assertEquals(ShardReports.mergeSurefire(Arrays.asList(first, second), out), 1);
+        ShardReports.mergeTestNg(Arrays.asList(first, second), out);
+
+        String surefire = new String(Files.readAllBytes(out.resolve("TEST-TestSuite.xml")), StandardCharsets.UTF_8);
+        Assert.assertTrue(surefire.contains("tests=\"3\""), surefire);
+        Assert.assertTrue(surefire.contains("failures=\"1\""), surefire);
+        Assert.assertTrue(surefire.contains("time=\"3.750\""), surefire);
+        Assert.assertEquals(surefire.split("<testcase ").length - 1, 3, surefire);
+
+        String results = new String(Files.readAllBytes(out.resolve("testng-results.xml")), StandardCharsets.UTF_8);
+        Assert.assertTrue(results.contains("total=\"2\""), results);
+        Assert.assertEquals(results.split("<suite ").length - 1, 1, results);
+        Assert.assertEquals(results.split("<class ").length - 1, 1, results);
+        Assert.assertEquals(results.split("<test-method ").length - 1, 2, results);
+    }
+
+    private static Properties props(String... keysAndValues) {
+        Properties props = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            props.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return props;
+    }
+
+    @Test
+    public void shardStateFiles_areFoldedIntoTheSharedFile() throws Exception {
+        String name = "ShardReportsTest-" + UUID.randomUUID();
+        Path shared = StateFiles.file(name);
+        Path first = StateFiles.shardFile(name, "shard-0");
+        Path second = StateFiles.shardFile(name, "shard-1");
+        try {
+            StateFiles.store(shared, props("chain | By.id: a", "5,1"), "hits,misses");
+            StateFiles.store(first, props("chain | By.id: a", "2,0"), "hits,misses");
+            StateFiles.store(second, props("chain | By.id: a", "1,3", "chain | By.id: b", "0,4"), "hits,misses");
+
+            Assert.assertEquals(StateFiles.foldShards(name, StateFiles::sum), 2);
+
+            Properties folded = StateFiles.load(shared);
+            Assert.assertEquals(folded.getProperty("chain | By.id: a"), "8,4");
+            Assert.assertEquals(folded.getProperty("chain | By.id: b"), "0,4");
+            Assert.assertFalse(Files.exists(first));
+            Assert.assertFalse(Files.exists(second));
+        } finally {
+            Files.deleteIfExists(shared);
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package testCases;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.StepTimings;
+import utils.StepTimings.Step;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Baseline comparison of wizard step timings (no browser needed).
+ */
+public class StepTimingsTest {
+
+    private static Properties baseline(Step step, long p50, long p95) {
+        Properties props = new Properties();
+        props.setProperty(step.id() + ".p50", Long.toString(p50));
+        props.setProperty(step.id() + ".p95", Long.toString(p95));
+        return props;
+    }
+
+    private static StepTimings samples(Step step, long... millis) {
+        StepTimings timings = new StepTimings();
+        for (long ms : millis) timings.add(step, ms);
+        return timings;
+    }
+
+    @Test
+    public void slowerThanThreshold_isARegression() {
+        StepTimings timings = samples(Step.DESTINATION_TO_DATE, 2000, 2100, 2200, 4300);
+        List<String> found = timings.regressions(baseline(Step.DESTINATION_TO_DATE, 2100, 3000), 30);
+
+        Assert.assertEquals(found.size(), 1, found.toString());
+        Assert.assertTrue(found.get(0).startsWith("destination-to-date p95 4300 ms vs baseline 3000 ms"), found.get(0));
+    }
+
+    @Test
+    public void smallAbsoluteDifference_isNoise() {
+        StepTimings timings = samples(Step.REGION_TO_NEXT_ENABLED, 300, 320, 340);
+        Assert.assertTrue(timings.regressions(baseline(Step.REGION_TO_NEXT_ENABLED, 150, 200), 30).isEmpty());
+    }
+
+    @Test
+    public void tooFewSamples_areReportedButNotCompared() {
+        StepTimings timings = samples(Step.LANDING_TO_DESTINATION, 9000, 9500);
+        Properties reference = baseline(Step.LANDING_TO_DESTINATION, 2500, 4500);
+
+        Assert.assertTrue(timings.regressions(reference, 30).isEmpty());
+        Assert.assertTrue(timings.report(reference).contains("too few samples"), timings.report(reference));
+        Assert.assertTrue(timings.toBaseline().isEmpty());
+    }
+}
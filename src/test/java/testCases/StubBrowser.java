@@ -0,0 +1,111 @@
+package testCases;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Driver and elements built from dynamic proxies, for framework tests that need no browser. Calls the client
+ * answers locally (toString, equals, hashCode, manage()) are answered here; every other call counts as a command.
+ * findElement(s) always return {@link #element}; scripts return what the test sets with {@link #onScript}.
+ * With {@link #goStale} set, the next command on the element (a call on it, or a script it is passed to) throws
+ * StaleElementReferenceException, as after a re-render; the element found again afterwards works.
+ */
+final class StubBrowser {
+    final AtomicInteger commands = new AtomicInteger();
+    final AtomicInteger lookups = new AtomicInteger();
+    final AtomicBoolean goStale = new AtomicBoolean();
+    final List<String> scripts = Collections.synchronizedList(new ArrayList<>());
+    private volatile BiFunction<String, Object[], Object> scriptResults = (script, args) -> null;
+
+    final WebElement element = element("stub element", Map.of("value", "12/05/2026"));
+
+    /** manage(): timeouts and the rest are accepted and ignored. */
+    private final WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(
+            StubBrowser.class.getClassLoader(), new Class<?>[] {WebDriver.Options.class, WebDriver.Timeouts.class},
+            (proxy, method, args) -> method.getReturnType().isInstance(proxy) ? proxy : null);
+
+    final WebDriver driver = (WebDriver) Proxy.newProxyInstance(StubBrowser.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hashCode": return System.identityHashCode(proxy);
+                    case "equals": return proxy == args[0];
+                    case "toString": return "stub driver";
+                    case "manage": return options;
+                    default: break;
+                }
+                commands.incrementAndGet();
+                switch (method.getName()) {
+                    case "findElement":
+                        lookups.incrementAndGet();
+                        return element;
+                    case "findElements":
+                        lookups.incrementAndGet();
+                        return new ArrayList<>(List.of(element));
+                    case "executeScript":
+                    case "executeAsyncScript":
+                        Object[] scriptArgs = (Object[]) args[1];
+                        for (Object arg : scriptArgs) {
+                            if (unwrap(arg) == element) checkStale();
+                        }
+                        scripts.add((String) args[0]);
+                        return scriptResults.apply((String) args[0], scriptArgs);
+                    default:
+                        return null;
+                }
+            });
+
+    /** Answers executeScript(script, args) from now on; unmatched scripts should return null. */
+    StubBrowser onScript(BiFunction<String, Object[], Object> results) {
+        this.scriptResults = results;
+        return this;
+    }
+
+    /** Another displayed, enabled element with the given attributes; its commands count like the driver's. */
+    WebElement element(String name, Map<String, String> attributes) {
+        return (WebElement) Proxy.newProxyInstance(StubBrowser.class.getClassLoader(),
+                new Class<?>[] {WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        case "toString": return name;
+                        default: break;
+                    }
+                    commands.incrementAndGet();
+                    if (proxy == element) checkStale();
+                    switch (method.getName()) {
+                        case "isDisplayed":
+                        case "isEnabled":
+                            return true;
+                        case "isSelected":
+                            return false;
+                        case "getAttribute":
+                            return attributes.get((String) args[0]);
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private void checkStale() {
+        if (goStale.getAndSet(false)) throw new StaleElementReferenceException("re-rendered");
+    }
+
+    private static Object unwrap(Object arg) {
+        while (arg instanceof WrapsElement) {
+            arg = ((WrapsElement) arg).getWrappedElement();
+        }
+        return arg;
+    }
+}
@@ -0,0 +1,44 @@
+package testCases;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.TripDaysParser;
+
+/**
+ * Trip-days text parsing on the texts the wizard renders (no browser needed).
+ */
+public class TripDaysParserTest {
+
+    @Test
+    public void nextButtonText_returnsTheDayCount() {
+        Assert.assertEquals(TripDaysParser.parse("הלאה\nסה\"כ: 33 ימים"), 33);
+        Assert.assertEquals(TripDaysParser.parse("סה\u05F4כ: 7 ימים"), 7, "Gershayim in the total marker");
+    }
+
+    @Test
+    public void bidiMarksAroundTheNumber_areIgnored() {
+        Assert.assertEquals(TripDaysParser.parse("\u200Fסה\"כ: \u200E31\u200E ימים\u200F"), 31);
+        Assert.assertEquals(TripDaysParser.parse("\u2067סה\"כ:\u2069 \u206631\u2069\u00A0ימים"), 31);
+    }
+
+    @Test
+    public void containerText_prefersTheNumberBeforeDays_overTheDates() {
+        String container = "תאריך יציאה\n12/05/2026\nתאריך חזרה\n13/06/2026\nהלאה\nסה\"כ: 33 ימים";
+        Assert.assertEquals(TripDaysParser.parse(container), 33);
+        Assert.assertEquals(TripDaysParser.parse("12/05/2026 סה\"כ: 33"), 33, "Number after the total marker");
+    }
+
+    @Test
+    public void textWithoutUsableNumber_returnsNotFound() {
+        Assert.assertEquals(TripDaysParser.parse(null), TripDaysParser.NOT_FOUND);
+        Assert.assertEquals(TripDaysParser.parse("הלאה"), TripDaysParser.NOT_FOUND);
+        Assert.assertEquals(TripDaysParser.parse("ימים"), TripDaysParser.NOT_FOUND);
+        Assert.assertEquals(TripDaysParser.parse("12345678901 ימים"), TripDaysParser.NOT_FOUND, "Overlong digit run");
+    }
+
+    @Test
+    public void plainNumber_isReturnedAsBefore() {
+        Assert.assertEquals(TripDaysParser.parse("30"), 30);
+        Assert.assertEquals(TripDaysParser.parse("Total 5 days"), 5);
+    }
+}